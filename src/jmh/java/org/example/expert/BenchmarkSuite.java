@@ -0,0 +1,64 @@
+package org.example.expert;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 선택한 벤치마크를 스레드 수별로 반복 실행하고, 모든 결과를 하나의 JMH JSON 파일로 남긴다.
+ * 릴리스마다 같은 설정으로 돌려 결과 파일끼리 비교하는 용도다 (각 결과에 threads 값이 들어 있다).
+ * <p>
+ * 시스템 프로퍼티
+ * <ul>
+ *     <li>jmh.include: 벤치마크 이름 정규식 (기본값 AuthHotPathBenchmark|PasswordEncoderBenchmark)</li>
+ *     <li>jmh.threads: 쉼표로 구분한 스레드 수 (기본값 1,4,16)</li>
+ *     <li>jmh.gc: true 면 GC 프로파일러를 붙여 B/op 를 함께 기록</li>
+ *     <li>jmh.result: 결과 JSON 경로</li>
+ * </ul>
+ * 그 밖의 JMH 옵션(-wi, -i, -p 등)은 인자로 넘기면 그대로 적용된다.
+ */
+public class BenchmarkSuite {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        String include = System.getProperty("jmh.include", "AuthHotPathBenchmark|PasswordEncoderBenchmark");
+        int[] threadCounts = Arrays.stream(System.getProperty("jmh.threads", "1,4,16").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        boolean gcProfiler = Boolean.parseBoolean(System.getProperty("jmh.gc", "false"));
+        File result = new File(System.getProperty("jmh.result", "build/reports/jmh/results.json"));
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threads : threadCounts) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .include(include)
+                    .threads(threads)
+                    .shouldFailOnError(true);
+            if (gcProfiler) {
+                options.addProfiler(GCProfiler.class);
+            }
+            results.addAll(new Runner(options.build()).run());
+        }
+
+        File directory = result.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("결과 디렉터리를 만들 수 없습니다: " + directory);
+        }
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, result.getPath()).writeOut(results);
+        System.out.println("JMH 결과: " + result.getAbsolutePath());
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.example.expert.config.HttpClientConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 느린 upstream(응답 지연 200ms) 에 대해 블로킹 / 논블로킹 날씨 조회의 처리량과 스레드 사용량을 비교한다.
+ * <ul>
+ *     <li>blocking: Tomcat 요청 스레드 풀을 흉내 낸 고정 풀(requestThreads)에서 WeatherClient.getTodayWeather 로 조회</li>
+ *     <li>nonBlocking: ReactiveWeatherClient.getTodayWeather 로 같은 수의 요청을 동시에 보내고 모두 끝날 때까지 대기</li>
+ * </ul>
+ * 한 번의 연산은 concurrency 개의 동시 요청 묶음이다. 반복마다 측정 구간의 최대 라이브 스레드 수를 출력한다.
+ * 매 연산 전에 캐시를 비우므로 두 경로 모두 실제 서비스와 같이 single-flight 로 합쳐진 upstream 조회 한 번을 기다린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class WeatherClientThreadUsageBenchmark {
+
+    private static final long UPSTREAM_DELAY_MILLIS = 200;
+
+    @Param({"64", "256"})
+    private int concurrency;
+
+    // Tomcat 기본값(200) 보다 작게 잡아 요청 스레드가 먼저 고갈되는 상황을 만든다
+    @Param({"32"})
+    private int requestThreads;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private HttpServer stubServer;
+    private ScheduledExecutorService stubScheduler;
+    private URI weatherUri;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private ExecutorService requestPool;
+
+    private WeatherClient weatherClient;
+    private ReactiveWeatherClient reactiveWeatherClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] feed = feed();
+        stubScheduler = Executors.newScheduledThreadPool(2);
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        // 스레드를 잡고 있지 않고 지연 후에 응답하는 upstream
+        stubServer.createContext("/weather.json", exchange -> stubScheduler.schedule(() -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(200, feed.length);
+                out.write(feed);
+            } catch (IOException e) {
+                exchange.close();
+            }
+        }, UPSTREAM_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        stubServer.start();
+        weatherUri = URI.create("http://127.0.0.1:" + stubServer.getAddress().getPort() + "/weather.json");
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", concurrency);
+        ReflectionTestUtils.setField(config, "maxPerRoute", concurrency);
+        ReflectionTestUtils.setField(config, "connectionRequestTimeout", Duration.ofSeconds(5));
+        connectionManager = config.weatherConnectionManager();
+        httpClient = config.weatherHttpClient(connectionManager);
+        restTemplate = config.restTemplate(httpClient);
+        requestPool = Executors.newFixedThreadPool(requestThreads);
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker("benchmark",
+                new CircuitBreaker.Settings(100, 100, 100f, 100f, Duration.ofSeconds(10), Duration.ofSeconds(1), 1),
+                new SimpleMeterRegistry());
+        weatherClient = new WeatherClient(restTemplate, circuitBreaker,
+                new RequestHedger("benchmark", RequestHedger.Settings.disabled(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(weatherClient, "weatherApiUrl", weatherUri.toString());
+        ReflectionTestUtils.setField(weatherClient, "totalTimeout", Duration.ofSeconds(10));
+        // 피드에는 매달 28일까지만 있다
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(LocalDateTime.of(2024, 3, 10, 12, 0).atZone(zone).toInstant(), zone);
+        ReflectionTestUtils.setField(weatherClient, "clock", clock);
+        reactiveWeatherClient = new ReactiveWeatherClient(config.weatherWebClient(), circuitBreaker, weatherClient);
+        ReflectionTestUtils.setField(reactiveWeatherClient, "weatherApiUrl", weatherUri.toString());
+        ReflectionTestUtils.setField(reactiveWeatherClient, "totalTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(reactiveWeatherClient, "clock", clock);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        requestPool.shutdownNow();
+        weatherClient.shutdown();
+        httpClient.close();
+        stubServer.stop(0);
+        stubScheduler.shutdownNow();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakThreads() {
+        threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakThreads() {
+        System.out.println("peak live threads: " + threads.getPeakThreadCount());
+    }
+
+    @Benchmark
+    public int blocking() throws Exception {
+        clearCache();
+        List<Future<String>> results = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            results.add(requestPool.submit(weatherClient::getTodayWeather));
+        }
+        int size = 0;
+        for (Future<String> result : results) {
+            size += result.get().length();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int nonBlocking() {
+        clearCache();
+        return Flux.range(0, concurrency)
+                .flatMap(i -> reactiveWeatherClient.getTodayWeather(), concurrency)
+                .map(String::length)
+                .reduce(0, Integer::sum)
+                .block();
+    }
+
+    private void clearCache() {
+        ReflectionTestUtils.setField(weatherClient, "snapshot", null);
+    }
+
+    private static byte[] feed() {
+        StringBuilder json = new StringBuilder("[");
+        for (int month = 1; month <= 12; month++) {
+            for (int day = 1; day <= 28; day++) {
+                if (json.length() > 1) {
+                    json.append(',');
+                }
+                json.append(String.format("{\"date\":\"%02d-%02d\",\"weather\":\"Sunny\"}", month, day));
+            }
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * weather.json 응답 처리 방식 비교.
+ * <ul>
+ *     <li>bindArray: 기존 방식. WeatherDto[] 로 전부 바인딩한 뒤 선형 탐색</li>
+ *     <li>streamTable: JsonParser 로 한 번 훑어 WeatherTable 생성 (WeatherClient 가 쓰는 경로)</li>
+ *     <li>streamFind: 원하는 날짜를 찾으면 바로 멈춤. 하루 캐시 뒤에서는 테이블 전체가 필요해 운영 코드에는 두지 않는다</li>
+ * </ul>
+ * 할당량은 -prof gc 로 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherFeedParsingBenchmark {
+
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
+
+    // 피드에 들어 있는 항목 수 (366 = 실제 피드 크기)
+    @Param({"366", "3660"})
+    private int entries;
+
+    // 찾는 날짜가 피드 앞쪽 / 뒤쪽에 있는 경우
+    @Param({"01-15", "12-15"})
+    private String target;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().addModule(new ParameterNamesModule()).build();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final WeatherFeedReader feedReader = new WeatherFeedReader(jsonFactory);
+
+    private byte[] feed;
+    private MonthDay targetDay;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        String[] weathers = {"Sunny", "Cloudy", "Rainy", "Snowy", "Partly cloudy with a chance of rain"};
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            // 실제 피드보다 큰 경우 같은 날짜가 반복되며 먼저 나온 값이 유효하다
+            LocalDate day = date.plusDays(i % 366);
+            json.append("{\"date\":\"").append(day.format(MONTH_DAY))
+                    .append("\",\"weather\":\"").append(weathers[i % weathers.length]).append("\"}");
+        }
+        feed = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        targetDay = MonthDay.parse("--" + target);
+    }
+
+    @Setup
+    public void verifyStreamFind() throws IOException {
+        if (!Objects.equals(streamTable(), streamFind())) {
+            throw new IllegalStateException("streamFind 결과가 streamTable 과 다릅니다: target=" + target);
+        }
+    }
+
+    @Benchmark
+    public String bindArray() throws IOException {
+        WeatherDto[] weatherArray = jsonMapper.readValue(new ByteArrayInputStream(feed), WeatherDto[].class);
+        String date = targetDay.format(MONTH_DAY);
+        for (WeatherDto weatherDto : weatherArray) {
+            if (date.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String streamTable() throws IOException {
+        return feedReader.readTable(new ByteArrayInputStream(feed)).get(targetDay);
+    }
+
+    @Benchmark
+    public String streamFind() throws IOException {
+        return findWeather(new ByteArrayInputStream(feed), targetDay);
+    }
+
+    /**
+     * 요청한 날짜의 항목을 찾는 즉시 읽기를 멈춘다. 날짜가 다른 항목의 날씨 문자열은 만들지 않는다.
+     * 찾지 못하면 null.
+     */
+    private String findWeather(InputStream body, MonthDay day) throws IOException {
+        int targetIndex = WeatherTable.index(day.getMonthValue(), day.getDayOfMonth());
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Boolean matches = null;
+                String weather = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("date".equals(field) && value == JsonToken.VALUE_STRING) {
+                        matches = targetIndex == WeatherTable.parseIndex(
+                                parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                        if (!matches) {
+                            skipRestOfObject(parser);
+                            break;
+                        }
+                    } else if ("weather".equals(field) && value == JsonToken.VALUE_STRING) {
+                        // date 보다 weather 가 먼저 오는 경우에만 날짜 확인 전에 문자열을 만든다
+                        weather = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                    if (Boolean.TRUE.equals(matches) && weather != null) {
+                        return weather;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void skipRestOfObject(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+}
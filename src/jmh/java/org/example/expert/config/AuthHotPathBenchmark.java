@@ -0,0 +1,117 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserSecurityEpochCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 거치는 인증 경로의 단계별 비용.
+ * <ul>
+ *     <li>createToken: 로그인 / 회원가입 응답의 토큰 발급</li>
+ *     <li>extractClaims, verifyToken: 토큰 검증 (cacheEnabled 로 캐시 유무 비교)</li>
+ *     <li>doFilterInternal: JwtFilter 전체 (path 로 일반 / 관리자 경로 비교)</li>
+ *     <li>resolveArgument: @Auth AuthUser 인자 생성</li>
+ * </ul>
+ * 스레드 수별 결과는 BenchmarkSuite(gradle jmhSuite) 로 한 번에 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthHotPathBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    @Param({"/todos", "/admin/users"})
+    private String path;
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private AuthUserArgumentResolver argumentResolver;
+    private String token;
+    private String bearerToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(
+                "benchmark-secret-key-for-jwt-token-generation-and-validation".getBytes(StandardCharsets.UTF_8)));
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", cacheEnabled);
+        jwtUtil.init();
+        TokenRevocationList revocationList = new TokenRevocationList(new SimpleMeterRegistry());
+        revocationList.init();
+        jwtFilter = new JwtFilter(jwtUtil, new ErrorResponses(new ObjectMapper()), revocationList, new UserSecurityEpochCache(null),
+                new RoutePolicyConfig().routePolicyTable());
+        argumentResolver = new AuthUserArgumentResolver();
+
+        bearerToken = jwtUtil.createToken(1L, "admin@example.com", UserRole.ADMIN);
+        token = jwtUtil.substringToken(bearerToken);
+    }
+
+    /**
+     * MockHttpServletRequest 는 thread-safe 하지 않으므로 스레드마다 따로 둔다.
+     */
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+        private ServletWebRequest webRequest;
+
+        @Setup(Level.Trial)
+        public void setUp(AuthHotPathBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", benchmark.path);
+            request.addHeader("Authorization", benchmark.bearerToken);
+            response = new MockHttpServletResponse();
+            webRequest = new ServletWebRequest(request, response);
+
+            request.setAttribute(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "admin@example.com", UserRole.ADMIN));
+        }
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "admin@example.com", UserRole.ADMIN);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public void doFilterInternal(Exchange exchange, Blackhole blackhole) throws Exception {
+        jwtFilter.doFilterInternal(exchange.request, exchange.response, NO_OP_CHAIN);
+        blackhole.consume(exchange.response.getStatus());
+    }
+
+    @Benchmark
+    public Object resolveArgument(Exchange exchange) {
+        return argumentResolver.resolveArgument(null, null, exchange.webRequest, null);
+    }
+}
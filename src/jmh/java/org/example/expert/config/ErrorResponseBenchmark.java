@@ -0,0 +1,163 @@
+package org.example.expert.config;
+
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.example.expert.domain.user.service.UserSecurityEpochCache;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거절 응답(401 / 403) 처리량. 토큰 만료나 무차별 로그인 시도 때 가장 많이 나가는 응답이다.
+ * <ul>
+ *     <li>serializeEachTime: 이전 방식. 요청마다 HashMap 을 만들고 ObjectMapper 로 직렬화해 writer 로 쓴다</li>
+ *     <li>cachedBytes: ErrorResponses 가 미리 만든 UTF-8 바이트를 output stream 으로 바로 쓴다</li>
+ *     <li>rejectMissingHeader: Authorization 헤더가 없는 요청을 JwtFilter 가 401 로 거절하는 전체 경로</li>
+ * </ul>
+ * 응답 쓰기 비용만 보려고 JwtFilter 로그는 끈다. 부하 수준별 결과는 gradle jmhSuite -PjmhInclude=ErrorResponseBenchmark 로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String MESSAGE = "인증이 필요합니다.";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private ObjectMapper objectMapper;
+    private ErrorResponses errorResponses;
+    private JwtFilter jwtFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(JwtFilter.class)).setLevel(ch.qos.logback.classic.Level.OFF);
+
+        objectMapper = new ObjectMapper();
+        errorResponses = new ErrorResponses(objectMapper);
+
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(
+                "benchmark-secret-key-for-jwt-token-generation-and-validation".getBytes(StandardCharsets.UTF_8)));
+        jwtUtil.init();
+        TokenRevocationList revocationList = new TokenRevocationList(new SimpleMeterRegistry());
+        revocationList.init();
+        jwtFilter = new JwtFilter(jwtUtil, errorResponses, revocationList, new UserSecurityEpochCache(null),
+                new RoutePolicyConfig().routePolicyTable());
+    }
+
+    /**
+     * MockHttpServletResponse 의 output stream 은 한 바이트씩 쓰며 매번 flush 해서 측정을 왜곡하므로,
+     * 본문은 스레드마다 둔 버퍼에 통째로 쓰고 상태 / 헤더만 mock 에 맡긴다.
+     */
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private MockHttpServletRequest request;
+        private BufferedResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            request = new MockHttpServletRequest("GET", "/todos");
+            response = new BufferedResponse();
+        }
+    }
+
+    @Benchmark
+    public int serializeEachTime(Exchange exchange) throws IOException {
+        BufferedResponse response = exchange.response.clear();
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType("application/json;charset=UTF-8");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpStatus.UNAUTHORIZED.name());
+        errorResponse.put("code", HttpStatus.UNAUTHORIZED.value());
+        errorResponse.put("message", MESSAGE);
+
+        PrintWriter writer = response.getWriter();
+        writer.write(objectMapper.writeValueAsString(errorResponse));
+        writer.flush();
+        return response.body.size();
+    }
+
+    @Benchmark
+    public int cachedBytes(Exchange exchange) throws IOException {
+        BufferedResponse response = exchange.response.clear();
+        errorResponses.write(response, ErrorMessage.AUTHENTICATION_REQUIRED);
+        return response.body.size();
+    }
+
+    @Benchmark
+    public int rejectMissingHeader(Exchange exchange) throws Exception {
+        BufferedResponse response = exchange.response.clear();
+        jwtFilter.doFilterInternal(exchange.request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    private static final class BufferedResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                body.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+        private final PrintWriter writer = new PrintWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8));
+
+        BufferedResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        BufferedResponse clear() {
+            body.reset();
+            getResponse().reset();
+            return this;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+    }
+}
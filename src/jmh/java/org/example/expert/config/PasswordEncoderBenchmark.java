@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncoder 의 해시 생성(회원가입, 비밀번호 변경) 과 검증(로그인) 비용.
+ * bcrypt 는 비밀번호 길이와 무관하게 cost 로 비용이 정해지므로 길이별 결과가 같아야 정상이고, cost 가 1 오르면 두 배가 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"8", "64"})
+    private int passwordLength;
+
+    @Param({"4", "10"})
+    private int cost;
+
+    private PasswordHashingExecutor hashingExecutor;
+    private PasswordEncoder passwordEncoder;
+    private String rawPassword;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry);
+        hashingExecutor.init();
+        BCryptPasswordHasher bcrypt = new BCryptPasswordHasher(meterRegistry);
+        ReflectionTestUtils.setField(bcrypt, "configuredCost", cost);
+        bcrypt.init();
+        passwordEncoder = new PasswordEncoder(hashingExecutor, List.of(bcrypt), meterRegistry);
+        passwordEncoder.init();
+        rawPassword = "Passw0rd".repeat(passwordLength / 8);
+        encodedPassword = passwordEncoder.encode(rawPassword);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(rawPassword, encodedPassword);
+    }
+}
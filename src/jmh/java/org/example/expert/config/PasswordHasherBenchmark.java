@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 알고리즘 / 파라미터별 검증 비용. 해시 스레드 풀을 거치지 않고 PasswordHasher 를 바로 부른다.
+ * <ul>
+ *     <li>지연 시간: SampleTime 의 p50 / p99 (로그인 한 번이 기다리는 시간)</li>
+ *     <li>처리량: Throughput 에 스레드 수를 곱하면 장비가 초당 검증할 수 있는 횟수</li>
+ *     <li>메모리: -prof gc 의 gc.alloc.rate.norm. scrypt / Argon2id 는 파라미터로 정한 작업 메모리가 그대로 보인다</li>
+ * </ul>
+ * spec 은 알고리즘:파라미터이고, 기본값은 각 알고리즘의 OWASP 권장값 근처다.
+ * 예) gradle jmhSuite -PjmhInclude=PasswordHasherBenchmark -PjmhThreads=1,4 -PjmhGc=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    @Param({
+            "bcrypt:cost=10", "bcrypt:cost=12",
+            "scrypt:ln=15,r=8", "scrypt:ln=17,r=8",
+            "argon2id:m=19456,t=2", "argon2id:m=47104,t=1",
+            "pbkdf2-sha256:i=600000"
+    })
+    private String spec;
+
+    private PasswordHasher hasher;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = spec.split(":");
+        String[] params = parts[1].split(",");
+        hasher = switch (parts[0]) {
+            case "bcrypt" -> {
+                BCryptPasswordHasher bcrypt = new BCryptPasswordHasher(new SimpleMeterRegistry());
+                ReflectionTestUtils.setField(bcrypt, "configuredCost", value(params, "cost"));
+                bcrypt.init();
+                yield bcrypt;
+            }
+            case "scrypt" -> {
+                SCryptPasswordHasher scrypt = new SCryptPasswordHasher();
+                ReflectionTestUtils.setField(scrypt, "logN", value(params, "ln"));
+                ReflectionTestUtils.setField(scrypt, "blockSize", value(params, "r"));
+                scrypt.init();
+                yield scrypt;
+            }
+            case "argon2id" -> {
+                Argon2idPasswordHasher argon2id = new Argon2idPasswordHasher();
+                ReflectionTestUtils.setField(argon2id, "memoryKib", value(params, "m"));
+                ReflectionTestUtils.setField(argon2id, "iterations", value(params, "t"));
+                argon2id.init();
+                yield argon2id;
+            }
+            case "pbkdf2-sha256" -> {
+                Pbkdf2PasswordHasher pbkdf2 = new Pbkdf2PasswordHasher();
+                ReflectionTestUtils.setField(pbkdf2, "iterations", value(params, "i"));
+                pbkdf2.init();
+                yield pbkdf2;
+            }
+            default -> throw new IllegalArgumentException(spec);
+        };
+        encodedPassword = hasher.hash("Passw0rd!");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hasher.verify("Passw0rd!", encodedPassword);
+    }
+
+    private static int value(String[] params, String name) {
+        for (String param : params) {
+            if (param.startsWith(name + "=")) {
+                return Integer.parseInt(param.substring(name.length() + 1));
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
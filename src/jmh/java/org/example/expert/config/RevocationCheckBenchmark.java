@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 요청마다 하는 폐기 여부 확인 비용.
+ * <ul>
+ *     <li>notRevoked: 대부분의 요청. Bloom filter 에서 끝나야 한다</li>
+ *     <li>revokedToken / revokedUser: Bloom filter 가 맞힌 뒤 정확한 Map 까지 확인하는 경우</li>
+ * </ul>
+ * revokedEntries 는 폐기 목록에 미리 넣어두는 jti / 사용자 수다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevocationCheckBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    private int revokedEntries;
+
+    private TokenRevocationList revocationList;
+    private VerifiedToken activeToken;
+    private VerifiedToken revokedToken;
+    private VerifiedToken revokedUserToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        revocationList = new TokenRevocationList(new SimpleMeterRegistry());
+        revocationList.init();
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + JwtUtil.TOKEN_TIME;
+        for (int i = 0; i < revokedEntries / 2; i++) {
+            revocationList.revokeToken(UUID.randomUUID().toString(), expiresAt);
+            revocationList.revokeAllIssuedBefore(1_000_000L + i);
+        }
+        String revokedTokenId = UUID.randomUUID().toString();
+        revocationList.revokeToken(revokedTokenId, expiresAt);
+        revocationList.revokeAllIssuedBefore(2L);
+
+        long issuedAt = now - 60_000;
+        activeToken = new VerifiedToken(1L, "user@example.com", UserRole.USER,
+                UUID.randomUUID().toString(), 0L, issuedAt, expiresAt);
+        revokedToken = new VerifiedToken(1L, "user@example.com", UserRole.USER, revokedTokenId, 0L, issuedAt, expiresAt);
+        revokedUserToken = new VerifiedToken(2L, "other@example.com", UserRole.USER,
+                UUID.randomUUID().toString(), 0L, issuedAt, expiresAt);
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return revocationList.isRevoked(activeToken);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return revocationList.isRevoked(revokedToken);
+    }
+
+    @Benchmark
+    public boolean revokedUser() {
+        return revocationList.isRevoked(revokedUserToken);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jwt.signing.algorithm 별 토큰 발급 / 검증 처리량. 검증은 캐시를 끄고 매번 서명을 확인한다.
+ * <ul>
+ *     <li>sign: JwtUtil.createToken (발급 노드의 로그인 / 회원가입)</li>
+ *     <li>verify: JwtUtil.verifyToken (모든 노드의 요청마다, 캐시 미스일 때)</li>
+ * </ul>
+ * 예: gradle jmh -PjmhArgs='SigningAlgorithmBenchmark -t 4'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, GeneralSecurityException {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", false);
+        ReflectionTestUtils.setField(jwtUtil, "signingAlgorithm", algorithm);
+        if ("HS256".equals(algorithm)) {
+            ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(
+                    "benchmark-secret-key-for-jwt-token-generation-and-validation".getBytes(StandardCharsets.UTF_8)));
+        } else {
+            KeyPair keyPair = keyPair();
+            Path directory = Files.createTempDirectory("jwt-keys");
+            Path privateKey = Files.write(directory.resolve("private.key"), Base64.getEncoder().encode(keyPair.getPrivate().getEncoded()));
+            Path publicKey = Files.write(directory.resolve("public.key"), Base64.getEncoder().encode(keyPair.getPublic().getEncoded()));
+            privateKey.toFile().deleteOnExit();
+            publicKey.toFile().deleteOnExit();
+            directory.toFile().deleteOnExit();
+            ReflectionTestUtils.setField(jwtUtil, "privateKeyPath", privateKey.toString());
+            ReflectionTestUtils.setField(jwtUtil, "publicKeyPath", publicKey.toString());
+        }
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    private KeyPair keyPair() throws GeneralSecurityException {
+        if ("ES256".equals(algorithm)) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        }
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 한 건을 검증하는 비용을 경로별로 비교한다.
+ * <ul>
+ *     <li>jjwtUncached: 캐시 없이 jjwt 로 매번 서명 검증과 JSON 파싱</li>
+ *     <li>jjwtCached: VerifiedTokenCache 를 거친 extractClaims (같은 토큰 반복)</li>
+ *     <li>fastPath: JwtUtil.verifyToken 의 HS256 전용 검증기</li>
+ * </ul>
+ * 요청당 할당량은 -prof gc 로 함께 보면 된다 (gc.alloc.rate.norm, B/op).
+ * 예: gradle jmh -PjmhArgs='TokenVerificationBenchmark -prof gc'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String secretKey = Base64.getEncoder().encodeToString(
+                "benchmark-secret-key-for-jwt-token-generation-and-validation".getBytes(StandardCharsets.UTF_8));
+        uncachedJwtUtil = jwtUtil(secretKey, false);
+        cachedJwtUtil = jwtUtil(secretKey, true);
+        token = cachedJwtUtil.substringToken(cachedJwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public Claims jjwtUncached() {
+        return uncachedJwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims jjwtCached() {
+        return cachedJwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken fastPath() {
+        return uncachedJwtUtil.verifyToken(token);
+    }
+
+    private static JwtUtil jwtUtil(String secretKey, boolean cacheEnabled) {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", cacheEnabled);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.BCryptPasswordHasher;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashingExecutor;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크리덴셜 스터핑 부하: 공격자 IP 몇 개가 매번 다른 이메일과 틀린 비밀번호로 로그인을 시도한다.
+ * throttled=false 이면 시도마다 bcrypt 검증(cost 8) 을 하고, true 이면 SigninThrottle 을 통과한 시도만 검증한다.
+ * <p>
+ * 보조 지표 hashed 가 bcrypt 횟수, 즉 로그인이 쓰는 CPU 다. 제한이 있으면 시도 속도와 상관없이
+ * IP 수 x ip.refill-interval 보충량 근처에 머물러야 하고, 나머지 시도는 해시 없이 throttled 로 끝나야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(4)
+@Fork(1)
+public class SigninThrottleBenchmark {
+
+    private static final String[] ATTACKER_IPS = {"203.0.113.1", "203.0.113.2"};
+
+    @Param({"false", "true"})
+    private boolean throttled;
+
+    private PasswordHashingExecutor hashingExecutor;
+    private PasswordEncoder passwordEncoder;
+    private SigninThrottle signinThrottle;
+    private String encodedPassword;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long hashed;
+        public long throttled;
+
+        private long sequence;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", 1024);
+        hashingExecutor.init();
+        BCryptPasswordHasher bcrypt = new BCryptPasswordHasher(meterRegistry);
+        ReflectionTestUtils.setField(bcrypt, "configuredCost", 8);
+        bcrypt.init();
+        passwordEncoder = new PasswordEncoder(hashingExecutor, List.of(bcrypt), meterRegistry);
+        passwordEncoder.init();
+        signinThrottle = new SigninThrottle(meterRegistry);
+        signinThrottle.init();
+        encodedPassword = passwordEncoder.encode("Passw0rd");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public boolean credentialStuffing(Outcome outcome) {
+        long attempt = outcome.sequence++;
+        String email = "victim" + Thread.currentThread().getId() + "-" + attempt + "@test.com";
+        if (throttled) {
+            try {
+                signinThrottle.acquire(email, ATTACKER_IPS[(int) (attempt % ATTACKER_IPS.length)]);
+            } catch (TooManyRequestsException e) {
+                outcome.throttled++;
+                return false;
+            }
+        }
+        outcome.hashed++;
+        return passwordEncoder.matches("wrong-password", encodedPassword);
+    }
+}
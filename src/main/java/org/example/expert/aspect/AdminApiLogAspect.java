@@ -6,6 +6,8 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.config.RoutePolicy;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -23,9 +25,14 @@ public class AdminApiLogAspect {
     public Object logAdminApi(ProceedingJoinPoint joinPoint) throws Throwable {
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
 
-        Long userId = (Long) request.getAttribute("userId");
-        log.info("AOP - Admin API Access: UserId={}, Timestamp={}, URL={}", 
-                userId, System.currentTimeMillis(), request.getRequestURI());
+        // 기록 여부는 JwtFilter 가 정한 경로 정책을 따른다
+        RoutePolicy routePolicy = RoutePolicy.of(request);
+        if (routePolicy == null || routePolicy.audited()) {
+            AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+            Long userId = authUser != null ? authUser.getId() : null;
+            log.info("AOP - Admin API Access: UserId={}, Timestamp={}, URL={}",
+                    userId, System.currentTimeMillis(), request.getRequestURI());
+        }
 
         return joinPoint.proceed();
     }
@@ -0,0 +1,193 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 외부 의존성 호출을 감싸는 lock-free 서킷 브레이커.
+ * 최근 N 건(count 기반 슬라이딩 윈도우)의 실패율 / 느린 호출 비율이 임계치를 넘으면 OPEN 으로 전환해 호출을 차단하고,
+ * 대기 시간이 지나면 HALF_OPEN 에서 제한된 수의 시험 호출로 복구 여부를 판단한다.
+ * 모든 상태는 CAS 로만 바뀌며 호출 경로에 락이 없다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public record Settings(
+            int windowSize,
+            int minimumCalls,
+            float failureRateThreshold,
+            float slowCallRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            int halfOpenCalls
+    ) {
+        public static Settings defaults() {
+            return new Settings(20, 5, 50f, 80f, Duration.ofSeconds(1), Duration.ofSeconds(30), 3);
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final long slowCallNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private volatile Window window;
+    private volatile long openedAtMillis;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    private final Counter shortCircuited;
+    private final MeterRegistry meterRegistry;
+
+    private Clock clock = Clock.systemUTC();
+
+    public CircuitBreaker(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.slowCallNanos = settings.slowCallDuration().toNanos();
+        this.window = new Window(settings.windowSize());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("circuitbreaker.state", state, ref -> ref.get().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.shortCircuited = Counter.builder("circuitbreaker.calls.short-circuited")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 호출 전에 허가를 얻는다. true 를 받은 호출은 반드시 onSuccess / onError 중 하나로 결과를 기록해야 한다.
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            State current = state.get();
+            switch (current) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (clock.millis() - openedAtMillis < settings.openDuration().toMillis()) {
+                        shortCircuited.increment();
+                        return false;
+                    }
+                    if (transition(State.OPEN, State.HALF_OPEN)) {
+                        // 전환 직후 잠깐 남아 있는 이전 permit 값은 0 이하이므로 그 사이 호출은 차단된다
+                        halfOpenSuccesses.set(0);
+                        halfOpenPermits.set(settings.halfOpenCalls());
+                    }
+                    continue;
+                case HALF_OPEN:
+                    if (halfOpenPermits.getAndDecrement() > 0) {
+                        return true;
+                    }
+                    shortCircuited.increment();
+                    return false;
+                default:
+                    throw new IllegalStateException(current.name());
+            }
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos ? Window.SLOW : Window.SUCCESS);
+    }
+
+    public void onError(long durationNanos) {
+        record(durationNanos >= slowCallNanos ? Window.FAILURE | Window.SLOW : Window.FAILURE);
+    }
+
+    private void record(int outcome) {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            if (outcome != Window.SUCCESS) {
+                open(State.HALF_OPEN);
+            } else if (halfOpenSuccesses.incrementAndGet() >= settings.halfOpenCalls()) {
+                window = new Window(settings.windowSize());
+                transition(State.HALF_OPEN, State.CLOSED);
+            }
+            return;
+        }
+        if (current != State.CLOSED) {
+            return;
+        }
+
+        Window currentWindow = window;
+        currentWindow.record(outcome);
+        int calls = currentWindow.calls.get();
+        if (calls < settings.minimumCalls()) {
+            return;
+        }
+        float failureRate = currentWindow.failures.get() * 100f / calls;
+        float slowCallRate = currentWindow.slowCalls.get() * 100f / calls;
+        if (failureRate >= settings.failureRateThreshold() || slowCallRate >= settings.slowCallRateThreshold()) {
+            open(State.CLOSED);
+        }
+    }
+
+    private void open(State from) {
+        openedAtMillis = clock.millis();
+        transition(from, State.OPEN);
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        log.warn("서킷 브레이커 상태 변경: name={}, {} -> {}", name, from, to);
+        meterRegistry.counter("circuitbreaker.transitions", "name", name, "from", from.name(), "to", to.name())
+                .increment();
+        return true;
+    }
+
+    /**
+     * 고정 크기 링 버퍼. 슬롯을 덮어쓸 때 이전 결과를 집계에서 빼는 방식으로 실패 / 느린 호출 수를 유지한다.
+     */
+    private static final class Window {
+
+        static final int SUCCESS = 1;
+        static final int FAILURE = 1 << 1;
+        static final int SLOW = 1 << 2;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        void record(int outcome) {
+            int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            int previous = outcomes.getAndSet(slot, outcome);
+            if (previous == 0) {
+                calls.incrementAndGet();
+            }
+            failures.addAndGet(flag(outcome, FAILURE) - flag(previous, FAILURE));
+            slowCalls.addAndGet(flag(outcome, SLOW) - flag(previous, SLOW));
+        }
+
+        private static int flag(int outcome, int mask) {
+            return (outcome & mask) != 0 ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.expert.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.exception.WeatherUnavailableException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 논블로킹 날씨 조회. upstream 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+ * 날짜별 조회는 WeatherClient 의 테이블 캐시를 그대로 보므로 refresh-ahead, stale-grace, single-flight 가 같이 적용되고,
+ * 캐시가 비어 있을 때의 upstream 호출도 두 클라이언트를 합쳐 한 번만 나간다.
+ * 이 클라이언트가 조회를 시작하면 weather-fetch 스레드 대신 WebClient 로 호출하므로 헤징은 적용되지 않는다.
+ * 서킷 브레이커는 WeatherClient 와 같은 인스턴스를 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveWeatherClient {
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final WeatherClient weatherClient;
+
+    private final WeatherFeedReader feedReader = new WeatherFeedReader();
+
+    @Value("${weather.api.url:https://f-api.github.io/f-api/weather.json}")
+    private String weatherApiUrl = "https://f-api.github.io/f-api/weather.json";
+    @Value("${weather.http.total-timeout:PT3S}")
+    private Duration totalTimeout = Duration.ofSeconds(3);
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    public Mono<String> getTodayWeather() {
+        return resolve(LocalDate.now(clock), "오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    public Mono<String> getWeather(LocalDate date) {
+        return resolve(date, "해당 날짜의 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    private Mono<String> resolve(LocalDate date, String notFoundMessage) {
+        // 구독이 취소되어도 다른 호출자와 공유하는 조회는 취소하지 않는다
+        return Mono.fromFuture(() -> weatherClient.currentTableAsync(() -> fetchWeatherTable().toFuture()), true).flatMap(table -> {
+            String weather = table.get(date);
+            return weather != null ? Mono.just(weather) : Mono.error(new ServerException(notFoundMessage));
+        });
+    }
+
+    /**
+     * 캐시를 거치지 않고 피드를 한 번 조회한다. WeatherClient 의 공유 조회가 upstream 을 부를 때 쓴다.
+     */
+    Mono<WeatherTable> fetchWeatherTable() {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new WeatherUnavailableException("날씨 API 호출이 일시적으로 차단되었습니다."));
+            }
+
+            long start = System.nanoTime();
+            return requestWeatherTable()
+                    .doOnSuccess(table -> circuitBreaker.onSuccess(System.nanoTime() - start))
+                    .doOnError(e -> circuitBreaker.onError(System.nanoTime() - start))
+                    .doFinally(signal -> {
+                        // 결과를 모른 채 취소된 호출도 기록해야 HALF_OPEN 시험 호출 수가 새지 않는다
+                        if (signal == SignalType.CANCEL) {
+                            circuitBreaker.onError(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    private Mono<WeatherTable> requestWeatherTable() {
+        return webClient.get()
+                .uri(buildWeatherApiUri())
+                .exchangeToMono(response -> {
+                    if (!HttpStatus.OK.equals(response.statusCode())) {
+                        return response.releaseBody().then(Mono.error(
+                                new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode())));
+                    }
+                    return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()))
+                            .map(this::readTable);
+                })
+                // 연결 실패도 블로킹 경로처럼 stale-grace 대상이 되도록 ServerException 으로 바꾼다
+                .onErrorMap(WebClientRequestException.class, e -> new ServerException("날씨 데이터를 가져오는데 실패했습니다."))
+                .filter(table -> !table.isEmpty())
+                .switchIfEmpty(Mono.error(() -> new ServerException("날씨 데이터가 없습니다.")))
+                .timeout(totalTimeout, Mono.error(() -> new ServerException("날씨 API 응답 시간이 초과되었습니다.")));
+    }
+
+    // 피드는 수십 KB 이므로 이벤트 루프에서 바로 파싱한다
+    private WeatherTable readTable(DataBuffer buffer) {
+        try (InputStream body = buffer.asInputStream(true)) {
+            return feedReader.readTable(body);
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 해석하지 못했습니다.");
+        }
+    }
+
+    private URI buildWeatherApiUri() {
+        return UriComponentsBuilder
+                .fromUriString(weatherApiUrl)
+                .encode()
+                .build()
+                .toUri();
+    }
+}
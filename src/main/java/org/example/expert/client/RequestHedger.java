@@ -0,0 +1,230 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 느린 upstream 응답(tail latency)을 줄이기 위한 요청 헤징.
+ * 1차 요청이 고정 지연(delay) 안에 끝나지 않으면 같은 요청을 한 번 더 보내고,
+ * 먼저 성공한 응답을 쓰고 나머지는 취소(인터럽트)한다.
+ * 추가 요청은 토큰 버킷 예산(1차 요청 수 대비 비율)을 넘지 않는다.
+ * <p>
+ * 날씨 API 는 하루 캐시 뒤에서 하루 몇 번만 불리므로 최근 응답 시간 백분위를 지연으로 쓸 만큼 표본이 모이지 않는다.
+ * 그래서 지연은 upstream 의 평소 응답 시간보다 조금 긴 고정값으로 설정한다.
+ * <p>
+ * 요청은 최대 max-concurrency 개의 스레드에서만 돈다. 스레드가 모두 바쁘면 1차 요청은 호출 스레드에서 헤징 없이 실행하고,
+ * 헤지 요청은 보내지 않는다.
+ */
+public class RequestHedger {
+
+    public record Settings(
+            boolean enabled,
+            // 1차 요청을 이만큼 기다린 뒤 헤지 요청을 보낸다
+            Duration delay,
+            // 1차 / 헤지 요청을 실행하는 스레드 수 상한
+            int maxConcurrency,
+            // 1차 요청 100 건당 허용하는 헤지 요청 수
+            float budgetPercent,
+            // 예산 버킷의 최대 크기 (연속으로 보낼 수 있는 헤지 수)
+            int budgetBurst
+    ) {
+        public static Settings disabled() {
+            return new Settings(false, Duration.ofMillis(200), 4, 10f, 3);
+        }
+    }
+
+    // 예산은 1/1000 토큰 단위 정수로 관리한다
+    private static final long TOKEN = 1000;
+
+    private final Settings settings;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong budget;
+    private final long depositPerCall;
+    private final long maxBudget;
+
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesThrottled;
+
+    public RequestHedger(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.depositPerCall = (long) (settings.budgetPercent() / 100f * TOKEN);
+        this.maxBudget = settings.budgetBurst() * TOKEN;
+        this.budget = new AtomicLong(maxBudget);
+        // 큐 없이 스레드 수만 묶는다. 넘치면 RejectedExecutionException 으로 알려 준다
+        this.executor = new ThreadPoolExecutor(0, settings.maxConcurrency(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-hedge");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.hedgesSent = Counter.builder("hedge.requests.sent")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("hedge.requests.won")
+                .description("헤지 요청이 1차 요청보다 먼저 성공한 횟수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.hedgesThrottled = Counter.builder("hedge.requests.throttled")
+                .description("예산 부족이나 스레드 부족으로 헤지 요청을 보내지 않은 횟수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 실행한다. 헤징이 꺼져 있거나 스레드가 모두 바쁘면 호출 스레드에서 그대로 실행한다.
+     * 두 요청이 모두 실패하면 나중에 실패한 쪽의 예외를 던진다.
+     */
+    public <T> T execute(Supplier<T> request) {
+        if (!settings.enabled()) {
+            return request.get();
+        }
+
+        Attempt<T> primary = submit(request);
+        if (primary == null) {
+            return request.get();
+        }
+        deposit();
+        try {
+            return primary.result.get(settings.delay().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아래에서 헤지 여부를 결정
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new ServerException("요청이 중단되었습니다.");
+        }
+
+        if (!tryWithdraw()) {
+            hedgesThrottled.increment();
+            return await(primary.result);
+        }
+        Attempt<T> backup = submit(request);
+        if (backup == null) {
+            refund();
+            hedgesThrottled.increment();
+            return await(primary.result);
+        }
+
+        hedgesSent.increment();
+        Attempt<T> winner = await(firstSuccess(primary, backup));
+        if (winner == backup) {
+            hedgesWon.increment();
+            primary.cancel();
+        } else {
+            backup.cancel();
+        }
+        return winner.result.join();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 스레드가 모두 바쁘면 null.
+     */
+    private <T> Attempt<T> submit(Supplier<T> request) {
+        Attempt<T> attempt = new Attempt<>();
+        try {
+            attempt.task = executor.submit(() -> {
+                try {
+                    attempt.result.complete(request.get());
+                } catch (Throwable t) {
+                    attempt.result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+        return attempt;
+    }
+
+    private <T> CompletableFuture<Attempt<T>> firstSuccess(Attempt<T> primary, Attempt<T> backup) {
+        CompletableFuture<Attempt<T>> first = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (Attempt<T> attempt : Arrays.asList(primary, backup)) {
+            attempt.result.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    first.complete(attempt);
+                } else if (remaining.decrementAndGet() == 0) {
+                    first.completeExceptionally(failure);
+                }
+            });
+        }
+        return first;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            throw rethrow(e instanceof CompletionException ? e.getCause() : e);
+        }
+    }
+
+    private RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ServerException("요청 처리 중 오류가 발생했습니다.");
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(depositPerCall, (current, amount) -> Math.min(maxBudget, current + amount));
+    }
+
+    private void refund() {
+        budget.accumulateAndGet(TOKEN, (current, amount) -> Math.min(maxBudget, current + amount));
+    }
+
+    private boolean tryWithdraw() {
+        while (true) {
+            long current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private static final class Attempt<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile Future<?> task;
+
+        // 블로킹 소켓 읽기는 인터럽트로 바로 끝나지 않을 수 있지만 읽기 타임아웃 안에는 정리된다
+        void cancel() {
+            Future<?> running = task;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+}
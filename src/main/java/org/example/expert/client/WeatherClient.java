@@ -1,63 +1,297 @@
 package org.example.expert.client;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.dto.WeatherDto;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.exception.WeatherUnavailableException;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class WeatherClient {
 
     // TODO-6
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final RequestHedger requestHedger;
+
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    private final WeatherFeedReader feedReader = new WeatherFeedReader();
+
+    @Value("${weather.api.url:https://f-api.github.io/f-api/weather.json}")
+    private String weatherApiUrl = "https://f-api.github.io/f-api/weather.json";
+    // 커넥션 획득, 연결, 응답 읽기를 모두 포함해 호출자가 기다리는 최대 시간
+    @Value("${weather.http.total-timeout:PT3S}")
+    private Duration totalTimeout = Duration.ofSeconds(3);
+    // 자정이 이만큼 남았을 때부터 다음 날 값을 백그라운드에서 미리 조회
+    @Value("${weather.cache.refresh-ahead:PT10M}")
+    private Duration refreshAhead = Duration.ofMinutes(10);
+    // 갱신에 실패하면 마지막으로 성공한 값을 만료 이후 이 시간 동안 계속 응답
+    @Value("${weather.cache.stale-grace:PT6H}")
+    private Duration staleGrace = Duration.ofHours(6);
+    // 백그라운드 갱신이 실패한 뒤 다음 시도까지의 대기 시간
+    @Value("${weather.cache.refresh-retry:PT1M}")
+    private Duration refreshRetry = Duration.ofMinutes(1);
+
+    private Clock clock = Clock.systemDefaultZone();
+    private Executor fetchExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "weather-fetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 피드 전체를 파싱한 테이블을 하루 단위로 보관
+    private volatile Snapshot snapshot;
+    private volatile long nextRefreshAttemptMillis;
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
-        // TODO-2-2
-        // if 문의 중첩은 동일 조건을 판별할때에만 적용됨
-        // HttpStatus Code가 OK인 것과
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        return resolve(LocalDate.now(clock), "오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    /**
+     * 임의 날짜의 날씨를 조회한다. 캐시된 테이블이 유효하면 배열 조회 한 번으로 끝난다.
+     */
+    public String getWeather(LocalDate date) {
+        return resolve(date, "해당 날짜의 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    /**
+     * currentTable 의 논블로킹 버전. 캐시, refresh-ahead, stale-grace 정책은 같고,
+     * 캐시가 비어 있으면 호출 스레드를 잡지 않고 공유 조회(loadShared) 가 끝나기를 기다린다.
+     * 이 호출이 공유 조회를 시작하게 되면 weather-fetch 스레드 대신 fetcher 로 upstream 을 부른다.
+     */
+    public CompletableFuture<WeatherTable> currentTableAsync(Supplier<CompletableFuture<WeatherTable>> fetcher) {
+        long now = clock.millis();
+        Snapshot current = snapshot;
+        if (current != null && now < current.expiresAtMillis()) {
+            if (now >= current.refreshAtMillis()) {
+                refreshInBackground(now, fetcher);
+            }
+            return CompletableFuture.completedFuture(current.table());
         }
-        // weatherArray가 empty인지를 판별하는 것은 같은 조건이라고 볼 수 없음
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+
+        // 타임아웃은 공유 조회가 아닌 이 호출자의 future 에만 건다
+        return loadShared(fetcher)
+                .thenApply(Snapshot::table)
+                .orTimeout(totalTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((table, failure) -> {
+                    if (failure == null) {
+                        return table;
+                    }
+                    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                    if (cause instanceof TimeoutException) {
+                        cause = new ServerException("날씨 API 응답 시간이 초과되었습니다.");
+                    }
+                    if (cause instanceof RuntimeException exception) {
+                        return staleOrThrow(current, now, exception);
+                    }
+                    throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fetchExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private String resolve(LocalDate date, String notFoundMessage) {
+        String weather = currentTable().get(date);
+        if (weather == null) {
+            throw new ServerException(notFoundMessage);
+        }
+        return weather;
+    }
+
+    private WeatherTable currentTable() {
+        long now = clock.millis();
+        Snapshot current = snapshot;
+        if (current != null && now < current.expiresAtMillis()) {
+            if (now >= current.refreshAtMillis()) {
+                refreshInBackground(now, this::fetchOnExecutor);
+            }
+            return current.table();
+        }
+
+        try {
+            return loadWithinDeadline().table();
+        } catch (RuntimeException e) {
+            return staleOrThrow(current, now, e);
+        }
+    }
+
+    /**
+     * 갱신에 실패했을 때 만료된 지 stale-grace 가 지나지 않은 이전 값이 있으면 그 값으로 응답한다.
+     */
+    private WeatherTable staleOrThrow(Snapshot current, long now, RuntimeException e) {
+        if ((e instanceof ServerException || e instanceof RestClientException)
+                && current != null && now < current.expiresAtMillis() + staleGrace.toMillis()) {
+            log.warn("날씨 갱신 실패, 이전 값으로 응답: cause={}", e.getMessage());
+            return current.table();
+        }
+        throw e;
+    }
+
+    private void refreshInBackground(long now, Supplier<CompletableFuture<WeatherTable>> fetcher) {
+        if (now < nextRefreshAttemptMillis || inFlight.get() != null) {
+            return;
+        }
+
+        loadShared(fetcher).whenComplete((loaded, failure) -> {
+            if (failure != null) {
+                nextRefreshAttemptMillis = clock.millis() + refreshRetry.toMillis();
+                log.warn("날씨 테이블 백그라운드 갱신 실패: cause={}", failure.getMessage());
+            }
+        });
+    }
+
+    private Snapshot loadWithinDeadline() {
+        CompletableFuture<Snapshot> future = loadShared(this::fetchOnExecutor);
+        try {
+            // 공유 중인 조회이므로 타임아웃이 나도 취소하지 않는다 (다른 대기자가 결과를 받을 수 있음)
+            return future.get(totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServerException("날씨 API 응답 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+    }
+
+    /**
+     * 동시에 들어온 조회를 하나의 upstream 호출로 합친다 (single-flight).
+     * 피드 한 번으로 모든 날짜의 테이블을 만들기 때문에 날짜별이 아닌 하나의 in-flight 조회만 유지한다.
+     * 대기하던 호출자는 모두 같은 결과 또는 같은 예외를 받는다. upstream 호출은 조회를 시작한 호출자의 fetcher 가 맡는다.
+     */
+    private CompletableFuture<Snapshot> loadShared(Supplier<CompletableFuture<WeatherTable>> fetcher) {
+        while (true) {
+            CompletableFuture<Snapshot> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, created)) {
+                continue;
+            }
+
+            CompletableFuture<WeatherTable> fetched;
+            try {
+                fetched = fetcher.get();
+            } catch (RuntimeException e) {
+                fetched = CompletableFuture.failedFuture(e);
+            }
+            fetched.whenComplete((table, failure) -> {
+                Snapshot loaded = failure == null ? store(table) : null;
+                // 완료된 조회를 뒤늦게 합류한 호출자가 재사용하지 않도록 먼저 비운다
+                inFlight.compareAndSet(created, null);
+                if (failure != null) {
+                    created.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+                } else {
+                    created.complete(loaded);
+                }
+            });
+            return created;
+        }
+    }
+
+    /**
+     * 블로킹 경로의 fetcher. RestTemplate 호출은 weather-fetch 스레드에서 실행한다.
+     */
+    private CompletableFuture<WeatherTable> fetchOnExecutor() {
+        try {
+            return CompletableFuture.supplyAsync(this::fetchWeatherTable, fetchExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ServerException("날씨 데이터를 가져오는데 실패했습니다."));
+        }
+    }
+
+    private Snapshot store(WeatherTable table) {
+        // 자정 직전에 받은 테이블은 다음 날 하루 동안 유효한 것으로 본다
+        LocalDateTime loadedAt = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = loadedAt.plus(refreshAhead).toLocalDate().plusDays(1).atStartOfDay();
+        long expiresAtMillis = expiresAt.atZone(clock.getZone()).toInstant().toEpochMilli();
+
+        Snapshot loaded = new Snapshot(table, expiresAtMillis, expiresAtMillis - refreshAhead.toMillis());
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private WeatherTable fetchWeatherTable() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new WeatherUnavailableException("날씨 API 호출이 일시적으로 차단되었습니다.");
         }
 
-        String today = getCurrentDate();
+        long start = System.nanoTime();
+        try {
+            // 헤징이 켜져 있으면 느린 1차 요청 대신 백업 요청의 응답을 쓸 수 있다
+            WeatherTable table = requestHedger.execute(this::requestWeatherTable);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return table;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start);
+            throw e;
+        }
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    private WeatherTable requestWeatherTable() {
+        WeatherTable table = restTemplate.execute(buildWeatherApiUri(), HttpMethod.GET, null, response -> {
+            // TODO-2-2
+            // if 문의 중첩은 동일 조건을 판별할때에만 적용됨
+            // HttpStatus Code가 OK인 것과
+            if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
             }
+            // 응답 바디를 WeatherDto[] 로 만들지 않고 스트림에서 바로 테이블을 채운다
+            return feedReader.readTable(response.getBody());
+        });
+        // weatherArray가 empty인지를 판별하는 것은 같은 조건이라고 볼 수 없음
+        if (table == null || table.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return table;
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(weatherApiUrl)
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private record Snapshot(WeatherTable table, long expiresAtMillis, long refreshAtMillis) {
     }
 }
@@ -0,0 +1,54 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * weather.json 을 WeatherDto[] 로 바인딩하지 않고 JsonParser 토큰 단위로 읽는다.
+ * [{"date":"MM-dd","weather":"..."}, ...] 형식만 해석하고 그 밖의 필드는 건너뛴다.
+ */
+public class WeatherFeedReader {
+
+    private final JsonFactory jsonFactory;
+
+    public WeatherFeedReader() {
+        this(new JsonFactory());
+    }
+
+    public WeatherFeedReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 피드 전체를 한 번 훑어 날짜별 조회 테이블을 만든다. 중간 DTO 나 배열을 만들지 않는다.
+     */
+    public WeatherTable readTable(InputStream body) throws IOException {
+        WeatherTable.Builder builder = WeatherTable.builder();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return builder.build();
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int index = -1;
+                String weather = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("date".equals(field) && value == JsonToken.VALUE_STRING) {
+                        index = WeatherTable.parseIndex(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    } else if ("weather".equals(field) && value == JsonToken.VALUE_STRING) {
+                        weather = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                builder.putAt(index, weather);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+
+/**
+ * 날씨 피드를 한 번만 파싱해 윤년 기준 day-of-year(0~365) 로 색인한 조회 테이블.
+ * 조회는 배열 접근 한 번이며 객체를 생성하지 않는다.
+ */
+public final class WeatherTable {
+
+    static final int SLOTS = 366;
+
+    // 윤년 기준 각 월 1일의 day-of-year 오프셋
+    private static final int[] MONTH_OFFSETS = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    private final String[] weathers;
+    private final int size;
+
+    private WeatherTable(String[] weathers, int size) {
+        this.weathers = weathers;
+        this.size = size;
+    }
+
+    public static WeatherTable from(WeatherDto[] weatherArray) {
+        Builder builder = builder();
+        for (WeatherDto weatherDto : weatherArray) {
+            builder.put(weatherDto.getDate(), weatherDto.getWeather());
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String get(LocalDate date) {
+        return weathers[index(date.getMonthValue(), date.getDayOfMonth())];
+    }
+
+    public String get(MonthDay monthDay) {
+        return weathers[index(monthDay.getMonthValue(), monthDay.getDayOfMonth())];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    static int index(int month, int dayOfMonth) {
+        return MONTH_OFFSETS[month - 1] + dayOfMonth - 1;
+    }
+
+    /**
+     * "MM-dd" 형식의 날짜를 포맷터 없이 직접 해석한다. 형식이 맞지 않으면 -1.
+     */
+    static int parseIndex(CharSequence date) {
+        if (date == null || date.length() != 5 || date.charAt(2) != '-') {
+            return -1;
+        }
+        return toIndex(
+                twoDigits(date.charAt(0), date.charAt(1)),
+                twoDigits(date.charAt(3), date.charAt(4))
+        );
+    }
+
+    /**
+     * JsonParser 의 문자 버퍼를 String 으로 만들지 않고 바로 해석한다.
+     */
+    static int parseIndex(char[] chars, int offset, int length) {
+        if (length != 5 || chars[offset + 2] != '-') {
+            return -1;
+        }
+        return toIndex(
+                twoDigits(chars[offset], chars[offset + 1]),
+                twoDigits(chars[offset + 3], chars[offset + 4])
+        );
+    }
+
+    private static int toIndex(int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).maxLength()) {
+            return -1;
+        }
+        return index(month, day);
+    }
+
+    private static int twoDigits(char tensChar, char onesChar) {
+        int tens = tensChar - '0';
+        int ones = onesChar - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    public static final class Builder {
+
+        private final String[] weathers = new String[SLOTS];
+        private int size;
+
+        private Builder() {
+        }
+
+        // 같은 날짜가 여러 번 나오면 기존 선형 탐색과 동일하게 처음 값을 유지
+        public Builder put(CharSequence date, String weather) {
+            return putAt(parseIndex(date), weather);
+        }
+
+        Builder putAt(int index, String weather) {
+            if (index >= 0 && weather != null && weathers[index] == null) {
+                weathers[index] = weather;
+                size++;
+            }
+            return this;
+        }
+
+        public WeatherTable build() {
+            return new WeatherTable(weathers.clone(), size);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.client.exception;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+/**
+ * 서킷 브레이커가 열려 날씨 API 를 호출하지 않고 바로 실패한 경우.
+ */
+public class WeatherUnavailableException extends ServerException {
+
+    public WeatherUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.config;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -11,18 +12,19 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @Slf4j
 @Component
 public class AdminAccessInterceptor implements HandlerInterceptor {
-    
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
-        if (!UserRole.ADMIN.equals(userRole)) {
+        // 권한은 JwtFilter 가 경로 정책으로 이미 확인했다.
+        // 정책이나 인증 사용자가 없거나 관리자가 아니면 필터와 MVC 가 본 경로가 다른 것이므로 막는다.
+        RoutePolicy routePolicy = RoutePolicy.of(request);
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+        if (routePolicy == null || !routePolicy.requiresAdmin()
+                || authUser == null || authUser.getUserRole() != UserRole.ADMIN) {
+            log.warn("관리자 경로 정책 불일치: policy={}, URL={}", routePolicy, request.getRequestURI());
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 필요합니다.");
             return false;
         }
-
-        Long userId = (Long) request.getAttribute("userId");
-        log.info("Interceptor - Admin API Access: UserId={}, Timestamp={}, URL={}", 
-                userId, System.currentTimeMillis(), request.getRequestURI());
         return true;
     }
-}
\ No newline at end of file
+}
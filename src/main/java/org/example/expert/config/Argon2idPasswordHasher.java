@@ -0,0 +1,96 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Argon2id (버전 0x13). 해시 형식은 $argon2id$v=19$m=19456,t=2,p=1$salt$hash 로 libargon2 와 같다.
+ * 해시 한 번에 m KiB 를 쓴다 (기본값 19MiB).
+ */
+@Component
+public class Argon2idPasswordHasher implements PasswordHasher {
+
+    static final String ID = "argon2id";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    @Value("${password.argon2.memory-kib:19456}")
+    private int memoryKib = 19456;
+    @Value("${password.argon2.iterations:2}")
+    private int iterations = 2;
+    @Value("${password.argon2.parallelism:1}")
+    private int parallelism = 1;
+
+    @PostConstruct
+    public void init() {
+        if (iterations < 1 || parallelism < 1 || memoryKib < 8 * parallelism) {
+            throw new IllegalArgumentException("Argon2id 파라미터가 올바르지 않습니다: m=" + memoryKib + ", t=" + iterations + ", p=" + parallelism);
+        }
+    }
+
+    @Override
+    public String name() {
+        return ID;
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of(ID);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        byte[] salt = PhcString.randomSalt(SALT_LENGTH);
+        Map<String, Integer> params = new LinkedHashMap<>();
+        params.put("m", memoryKib);
+        params.put("t", iterations);
+        params.put("p", parallelism);
+        return new PhcString(ID, Argon2Parameters.ARGON2_VERSION_13, params, salt,
+                derive(rawPassword, salt, memoryKib, iterations, parallelism, HASH_LENGTH)).encode();
+    }
+
+    @Override
+    public boolean verify(String rawPassword, String encodedPassword) {
+        PhcString phc = PhcString.parse(encodedPassword);
+        if (phc == null || !ID.equals(phc.id()) || phc.version() != Argon2Parameters.ARGON2_VERSION_13) {
+            return false;
+        }
+        int memory = phc.param("m");
+        int passes = phc.param("t");
+        int lanes = phc.param("p");
+        if (memory < 8 * lanes || passes < 1 || lanes < 1) {
+            return false;
+        }
+        return phc.hashEquals(derive(rawPassword, phc.salt(), memory, passes, lanes, phc.hash().length));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        PhcString phc = PhcString.parse(encodedPassword);
+        return phc == null || !ID.equals(phc.id()) || phc.version() != Argon2Parameters.ARGON2_VERSION_13
+                || phc.param("m") != memoryKib || phc.param("t") != iterations || phc.param("p") != parallelism;
+    }
+
+    private static byte[] derive(String rawPassword, byte[] salt, int memoryKib, int iterations, int parallelism, int length) {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withMemoryAsKB(memoryKib)
+                .withIterations(iterations)
+                .withParallelism(parallelism)
+                .withSalt(salt)
+                .build();
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+        byte[] hash = new byte[length];
+        generator.generateBytes(rawPassword.getBytes(StandardCharsets.UTF_8), hash);
+        return hash;
+    }
+}
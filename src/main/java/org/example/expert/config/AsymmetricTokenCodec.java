@@ -0,0 +1,229 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ES256 / EdDSA(Ed25519) 로 액세스 토큰을 서명하고 검증한다.
+ * jjwt 0.11 은 EdDSA 를 지원하지 않으므로 두 알고리즘 모두 JDK Signature 로 직접 처리하고,
+ * 예외는 jjwt 와 같은 타입(SignatureException, MalformedJwtException, ExpiredJwtException) 으로 던진다.
+ * <p>
+ * 개인키 없이 만들면 검증 전용이다. 토큰을 발급하는 인스턴스에만 개인키를 두고 나머지는 공개키만 둔다.
+ */
+final class AsymmetricTokenCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    enum Algorithm {
+        ES256("ES256", "EC", "SHA256withECDSAinP1363Format"),
+        EDDSA("EdDSA", "Ed25519", "Ed25519");
+
+        private final String headerName;
+        private final String keyAlgorithm;
+        private final String signatureAlgorithm;
+
+        Algorithm(String headerName, String keyAlgorithm, String signatureAlgorithm) {
+            this.headerName = headerName;
+            this.keyAlgorithm = keyAlgorithm;
+            this.signatureAlgorithm = signatureAlgorithm;
+        }
+
+        /**
+         * jwt.signing.algorithm 값. HS256 이면 null.
+         */
+        static Algorithm of(String name) {
+            if ("HS256".equalsIgnoreCase(name)) {
+                return null;
+            }
+            for (Algorithm algorithm : values()) {
+                if (algorithm.headerName.equalsIgnoreCase(name) || algorithm.keyAlgorithm.equalsIgnoreCase(name)) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 JWT 서명 알고리즘입니다: " + name);
+        }
+    }
+
+    private final Algorithm algorithm;
+    private final PublicKey publicKey;
+    private final PrivateKey privateKey;
+    private final String encodedHeader;
+    private final Set<String> acceptedHeaders;
+    private final ThreadLocal<Signature> signatures;
+
+    /**
+     * @param kid        서명할 때 헤더에 넣는 kid. null 이면 넣지 않는다
+     * @param privateKey null 이면 검증 전용
+     */
+    AsymmetricTokenCodec(Algorithm algorithm, String kid, PublicKey publicKey, PrivateKey privateKey) {
+        this.algorithm = algorithm;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.encodedHeader = encodedHeader(algorithm, kid);
+        this.acceptedHeaders = kid == null
+                ? Set.of(encodedHeader)
+                : Set.of(encodedHeader, encodedHeader(algorithm, null));
+        this.signatures = ThreadLocal.withInitial(() -> {
+            try {
+                return Signature.getInstance(algorithm.signatureAlgorithm);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        if (privateKey != null) {
+            checkKeyPair();
+        }
+    }
+
+    boolean canSign() {
+        return privateKey != null;
+    }
+
+    String sign(Map<String, Object> claims) {
+        if (privateKey == null) {
+            throw new IllegalStateException("개인키가 없어 토큰을 서명할 수 없습니다.");
+        }
+        try {
+            String signingInput = encodedHeader + '.' + BASE64_URL_ENCODER.encodeToString(OBJECT_MAPPER.writeValueAsBytes(claims));
+            return signingInput + '.' + BASE64_URL_ENCODER.encodeToString(sign(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("토큰을 서명할 수 없습니다.", e);
+        }
+    }
+
+    Claims verify(String token, long nowMillis) {
+        int headerEnd = token.indexOf('.');
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (headerEnd <= 0 || signatureStart - 1 <= headerEnd) {
+            throw new MalformedJwtException("JWT 형식이 올바르지 않습니다.");
+        }
+        // 다른 알고리즘 / kid 의 토큰(이전 HS256 토큰 포함) 은 검증할 키가 없다
+        if (!acceptedHeaders.contains(token.substring(0, headerEnd))) {
+            throw new SignatureException("검증할 수 없는 JWT 헤더입니다.");
+        }
+
+        byte[] signature;
+        byte[] payload;
+        try {
+            signature = BASE64_URL_DECODER.decode(token.substring(signatureStart));
+            payload = BASE64_URL_DECODER.decode(token.substring(headerEnd + 1, signatureStart - 1));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT 를 base64url 로 디코딩할 수 없습니다.", e);
+        }
+        if (!verify(token.substring(0, signatureStart - 1).getBytes(StandardCharsets.US_ASCII), signature)) {
+            throw new SignatureException("JWT 서명이 올바르지 않습니다.");
+        }
+
+        Claims claims;
+        try {
+            claims = Jwts.claims(OBJECT_MAPPER.readValue(payload, CLAIMS_TYPE));
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT payload 를 읽을 수 없습니다.", e);
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration != null && nowMillis > expiration.getTime()) {
+            throw new ExpiredJwtException(null, claims, "JWT expired at " + expiration.toInstant());
+        }
+        return claims;
+    }
+
+    private byte[] sign(byte[] signingInput) throws GeneralSecurityException {
+        Signature signature = signatures.get();
+        signature.initSign(privateKey);
+        signature.update(signingInput);
+        return signature.sign();
+    }
+
+    private boolean verify(byte[] signingInput, byte[] signatureBytes) {
+        Signature signature = signatures.get();
+        try {
+            signature.initVerify(publicKey);
+            signature.update(signingInput);
+            return signature.verify(signatureBytes);
+        } catch (GeneralSecurityException e) {
+            // 길이가 맞지 않는 서명 등
+            return false;
+        }
+    }
+
+    // 개인키와 공개키가 짝이 맞지 않으면 발급한 토큰을 어디서도 검증할 수 없으므로 시작할 때 막는다
+    private void checkKeyPair() {
+        byte[] probe = "key-pair-check".getBytes(StandardCharsets.US_ASCII);
+        try {
+            if (!verify(probe, sign(probe))) {
+                throw new IllegalStateException("JWT 개인키와 공개키가 짝이 맞지 않습니다.");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 개인키로 서명할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * PEM 또는 base64 로 된 X.509(SubjectPublicKeyInfo) 공개키 파일을 읽는다.
+     */
+    static PublicKey readPublicKey(Path file, Algorithm algorithm) throws IOException, GeneralSecurityException {
+        PublicKey key = KeyFactory.getInstance(algorithm.keyAlgorithm).generatePublic(new X509EncodedKeySpec(readDer(file)));
+        checkCurve(key, algorithm);
+        return key;
+    }
+
+    /**
+     * PEM 또는 base64 로 된 PKCS#8 개인키 파일을 읽는다.
+     */
+    static PrivateKey readPrivateKey(Path file, Algorithm algorithm) throws IOException, GeneralSecurityException {
+        PrivateKey key = KeyFactory.getInstance(algorithm.keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(readDer(file)));
+        checkCurve(key, algorithm);
+        return key;
+    }
+
+    private static void checkCurve(Object key, Algorithm algorithm) throws GeneralSecurityException {
+        if (algorithm == Algorithm.ES256 && ((ECKey) key).getParams().getCurve().getField().getFieldSize() != 256) {
+            throw new GeneralSecurityException("ES256 은 P-256 키만 쓸 수 있습니다.");
+        }
+    }
+
+    private static byte[] readDer(Path file) throws IOException {
+        String text = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----[A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        try {
+            return Base64.getDecoder().decode(text);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("키 파일이 PEM / base64 형식이 아닙니다: " + file, e);
+        }
+    }
+
+    // jjwt 가 만드는 헤더와 같은 순서로 만든다
+    private static String encodedHeader(Algorithm algorithm, String kid) {
+        String header = kid == null
+                ? "{\"alg\":\"" + algorithm.headerName + "\"}"
+                : "{\"kid\":\"" + kid + "\",\"alg\":\"" + algorithm.headerName + "\"}";
+        return BASE64_URL_ENCODER.encodeToString(header.getBytes(StandardCharsets.US_ASCII));
+    }
+}
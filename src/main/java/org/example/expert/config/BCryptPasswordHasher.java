@@ -0,0 +1,175 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt. 해시 형식은 $2a$10$... 이고 $2b$ / $2y$ 도 검증한다.
+ * <p>
+ * cost 를 정하지 않으면(0) 시작할 때 이 장비에서 cost 별 해시 시간을 재서 latency-budget 안에 드는 가장 큰 cost 를 쓴다.
+ * cost 가 하나 오를 때마다 시간이 두 배가 되므로 다음 cost 는 직전 측정값의 두 배가 예산 안일 때만 재 본다.
+ * password.hashing.algorithm 이 bcrypt 가 아니면 새 해시를 만들 일이 없으므로 측정하지 않고 min-cost 를 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    static final String NAME = "bcrypt";
+
+    private final MeterRegistry meterRegistry;
+
+    // 0 이면 시작할 때 측정해서 정한다
+    @Value("${password.bcrypt.cost:0}")
+    private int configuredCost = 0;
+    @Value("${password.bcrypt.latency-budget:PT0.25S}")
+    private Duration latencyBudget = Duration.ofMillis(250);
+    @Value("${password.bcrypt.min-cost:10}")
+    private int minCost = 10;
+    @Value("${password.bcrypt.max-cost:16}")
+    private int maxCost = 16;
+    @Value("${password.hashing.algorithm:bcrypt}")
+    private String activeAlgorithm = NAME;
+
+    private final Timer[] costTimers = new Timer[BCrypt.MAX_COST + 1];
+    private volatile int cost = BCrypt.MIN_COST;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("password.bcrypt.cost", this, BCryptPasswordHasher::getCost)
+                .description("새 해시에 쓰는 bcrypt cost")
+                .register(meterRegistry);
+
+        if (configuredCost > 0) {
+            cost = checkCost(configuredCost);
+            log.info("bcrypt cost: {}", cost);
+        } else if (NAME.equalsIgnoreCase(activeAlgorithm)) {
+            cost = calibrate();
+            log.info("bcrypt cost: {} (latencyBudget={})", cost, latencyBudget);
+        } else {
+            // 기존 bcrypt 해시는 검증만 하고, 다음 로그인 때 현재 알고리즘으로 다시 해시된다
+            cost = checkCost(minCost);
+            log.info("bcrypt cost: {} (새 해시 알고리즘이 {} 이므로 측정 생략)", cost, activeAlgorithm);
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of("2a", "2b", "2y");
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return hash(rawPassword, cost);
+    }
+
+    @Override
+    public boolean verify(String rawPassword, String encodedPassword) {
+        long startedAt = System.nanoTime();
+        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        int hashCost = costOf(encodedPassword);
+        if (hashCost >= BCrypt.MIN_COST && hashCost <= BCrypt.MAX_COST) {
+            costTimer(hashCost).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return result.verified;
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != cost;
+    }
+
+    private String hash(String rawPassword, int hashCost) {
+        long startedAt = System.nanoTime();
+        String hash = BCrypt.withDefaults().hashToString(hashCost, rawPassword.toCharArray());
+        costTimer(hashCost).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return hash;
+    }
+
+    private int calibrate() {
+        int lower = checkCost(minCost);
+        int upper = checkCost(Math.max(maxCost, lower));
+        long budgetNanos = latencyBudget.toNanos();
+        // JIT 워밍업
+        for (int i = 0; i < 3; i++) {
+            hash("calibration", BCrypt.MIN_COST);
+        }
+
+        int chosen = lower;
+        long elapsed = measure(chosen);
+        if (elapsed > budgetNanos) {
+            log.warn("bcrypt 최소 cost {} 의 해시 시간 {}ms 가 예산 {}ms 를 넘습니다.",
+                    chosen, TimeUnit.NANOSECONDS.toMillis(elapsed), latencyBudget.toMillis());
+            return chosen;
+        }
+        while (chosen < upper && elapsed * 2 <= budgetNanos) {
+            long next = measure(chosen + 1);
+            if (next > budgetNanos) {
+                break;
+            }
+            chosen++;
+            elapsed = next;
+        }
+        return chosen;
+    }
+
+    private long measure(int hashCost) {
+        long startedAt = System.nanoTime();
+        hash("calibration", hashCost);
+        return System.nanoTime() - startedAt;
+    }
+
+    private Timer costTimer(int hashCost) {
+        Timer timer = costTimers[hashCost];
+        if (timer == null) {
+            timer = Timer.builder("password.bcrypt.duration")
+                    .description("bcrypt cost 별 해시 / 검증 시간")
+                    .tag("cost", Integer.toString(hashCost))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            costTimers[hashCost] = timer;
+        }
+        return timer;
+    }
+
+    private static int checkCost(int hashCost) {
+        if (hashCost < BCrypt.MIN_COST || hashCost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다: " + hashCost);
+        }
+        return hashCost;
+    }
+
+    // $2a$10$... 형식의 cost. 형식이 다르면 -1
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.client.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CircuitBreakerConfig {
+
+    @Value("${weather.circuit-breaker.window-size:20}")
+    private int windowSize;
+    @Value("${weather.circuit-breaker.minimum-calls:5}")
+    private int minimumCalls;
+    @Value("${weather.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+    @Value("${weather.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+    @Value("${weather.circuit-breaker.slow-call-duration:PT1S}")
+    private Duration slowCallDuration;
+    @Value("${weather.circuit-breaker.open-duration:PT30S}")
+    private Duration openDuration;
+    @Value("${weather.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Bean
+    public CircuitBreaker weatherCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                slowCallRateThreshold,
+                slowCallDuration,
+                openDuration,
+                halfOpenCalls
+        );
+        return new CircuitBreaker("weather", settings, meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 거절 응답에 자주 나가는 고정 (status, message). ErrorResponses 가 시작할 때 본문을 미리 만들어 둔다.
+ * 토큰 만료, 무차별 로그인 시도처럼 같은 응답이 몰리는 경우만 여기에 둔다.
+ */
+public enum ErrorMessage {
+
+    AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
+    MALFORMED_TOKEN(HttpStatus.BAD_REQUEST, "인증이 필요합니다."),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    WRONG_PASSWORD(HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다."),
+    SIGNIN_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    HASHING_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorMessage(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+
+    public String message() {
+        return message;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {"status", "code", "message"} 에러 응답 본문을 쓴다.
+ * <p>
+ * 거절 응답은 대부분 "인증이 필요합니다." 처럼 고정 문구라 토큰 만료 / 무차별 로그인 시도 때 같은 본문을 계속 만든다.
+ * ErrorMessage 에 선언한 (status, message) 는 시작할 때 UTF-8 바이트로 만들어 두고 재사용하며,
+ * 그 밖의 메시지(id 나 상태 코드가 들어간 문구 등) 는 캐시를 채우지 않도록 매번 직렬화한다.
+ */
+@Component
+public class ErrorResponses {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private final ObjectMapper objectMapper;
+
+    // 시작할 때 채운 뒤로는 읽기만 한다
+    private final Map<ErrorMessage, byte[]> constants = new EnumMap<>(ErrorMessage.class);
+    private final Map<HttpStatus, Map<String, byte[]>> constantsByStatus = new EnumMap<>(HttpStatus.class);
+
+    public ErrorResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorMessage error : ErrorMessage.values()) {
+            byte[] body = serialize(error.status(), error.message());
+            constants.put(error, body);
+            constantsByStatus.computeIfAbsent(error.status(), status -> new HashMap<>()).put(error.message(), body);
+        }
+    }
+
+    /**
+     * 필터처럼 MVC 밖에서 응답을 직접 쓸 때 사용한다.
+     */
+    public void write(HttpServletResponse response, ErrorMessage error) throws IOException {
+        write(response, error.status(), constants.get(error));
+    }
+
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        write(response, status, body(status, message));
+    }
+
+    private void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * @ExceptionHandler 에서 반환할 응답. 본문이 이미 바이트라 메시지 컨버터가 그대로 쓴다.
+     */
+    public ResponseEntity<byte[]> entity(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(status, message));
+    }
+
+    /**
+     * 예외 메시지가 ErrorMessage 와 같으면 미리 만든 본문을 쓴다.
+     */
+    byte[] body(HttpStatus status, String message) {
+        Map<String, byte[]> byMessage = constantsByStatus.get(status);
+        if (byMessage != null && message != null) {
+            byte[] constant = byMessage.get(message);
+            if (constant != null) {
+                return constant;
+            }
+        }
+        return serialize(status, message);
+    }
+
+    private byte[] serialize(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
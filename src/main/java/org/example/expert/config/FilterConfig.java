@@ -1,7 +1,7 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.service.UserSecurityEpochCache;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,12 +11,16 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponses errorResponses;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserSecurityEpochCache userSecurityEpochCache;
+    private final RoutePolicyTable routePolicyTable;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, errorResponses, tokenRevocationList, userSecurityEpochCache,
+                routePolicyTable));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
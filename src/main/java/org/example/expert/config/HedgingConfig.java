@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.client.RequestHedger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class HedgingConfig {
+
+    @Value("${weather.hedging.enabled:false}")
+    private boolean enabled;
+    @Value("${weather.hedging.delay:PT0.2S}")
+    private Duration delay;
+    @Value("${weather.hedging.max-concurrency:4}")
+    private int maxConcurrency;
+    @Value("${weather.hedging.budget-percent:10}")
+    private float budgetPercent;
+    @Value("${weather.hedging.budget-burst:3}")
+    private int budgetBurst;
+
+    @Bean(destroyMethod = "shutdown")
+    public RequestHedger weatherRequestHedger(MeterRegistry meterRegistry) {
+        RequestHedger.Settings settings = new RequestHedger.Settings(
+                enabled,
+                delay,
+                maxConcurrency,
+                budgetPercent,
+                budgetBurst
+        );
+        return new RequestHedger("weather", settings, meterRegistry);
+    }
+}
@@ -0,0 +1,336 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * JwtUtil.createToken 이 발급하는 형태의 HS256 토큰만 처리하는 검증기.
+ * 헤더 원문으로 키 묶음에서 키를 바로 찾고, 스레드별로 재사용하는 Mac 과 버퍼로 서명을 확인하고, payload 바이트에서 sub / jti / email / userRole / epoch / exp / iat 만 바로 읽는다.
+ * Claims Map 이나 중간 문자열을 만들지 않으며, 할당은 헤더 substring, email / jti 문자열과 결과 객체뿐이다.
+ * <p>
+ * 모르는 헤더(kid)거나, 서명이 맞지 않거나, 만료되었거나, 모르는 claim / escape 문자가 있으면 null 을 돌려준다.
+ * 호출하는 쪽은 이때 jjwt 로 다시 검증해 정확한 예외를 받는다.
+ */
+final class Hs256TokenVerifier {
+
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int[] BASE64_URL = new int[128];
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = new byte[ROLES.length][];
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] USER_ROLE = ascii("userRole");
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] IAT = ascii("iat");
+    private static final byte[] EPOCH = ascii("epoch");
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+        for (int i = 0; i < ROLES.length; i++) {
+            ROLE_NAMES[i] = ascii(ROLES[i].name());
+        }
+    }
+
+    private final JwtKeyRing keyRing;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    Hs256TokenVerifier(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    VerifiedToken verify(String token, long nowMillis) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            return null;
+        }
+        Key key = keyRing.keyForEncodedHeader(token.substring(0, headerEnd));
+        if (key == null) {
+            return null;
+        }
+        int signatureStart = token.lastIndexOf('.') + 1;
+        int payloadEnd = signatureStart - 1;
+        if (payloadEnd <= headerEnd) {
+            return null;
+        }
+
+        Scratch buffers = scratch.get();
+        Mac mac = buffers.mac(key);
+        byte[] signingInput = buffers.signingInput(payloadEnd);
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) {
+                return null;
+            }
+            signingInput[i] = (byte) c;
+        }
+
+        if (decode(token, signatureStart, token.length(), buffers.signature) != SIGNATURE_LENGTH) {
+            return null;
+        }
+        try {
+            mac.update(signingInput, 0, payloadEnd);
+            mac.doFinal(buffers.expected, 0);
+        } catch (GeneralSecurityException e) {
+            mac.reset();
+            return null;
+        }
+        if (!MessageDigest.isEqual(buffers.expected, buffers.signature)) {
+            return null;
+        }
+
+        byte[] payload = buffers.payload(payloadEnd - headerEnd);
+        int payloadLength = decode(token, headerEnd + 1, payloadEnd, payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        return readPayload(payload, payloadLength, nowMillis);
+    }
+
+    /**
+     * {"sub":"1","jti":"...","email":"...","userRole":"USER","epoch":0,"exp":...,"iat":...} 형태의 평평한 객체만 읽는다.
+     */
+    private VerifiedToken readPayload(byte[] json, int length, long nowMillis) {
+        long userId = -1;
+        String email = null;
+        UserRole userRole = null;
+        String tokenId = null;
+        long exp = -1;
+        long iat = 0;
+        long securityEpoch = 0;
+
+        int pos = skipWhitespace(json, 0, length);
+        if (pos >= length || json[pos++] != '{') {
+            return null;
+        }
+        while (true) {
+            pos = skipWhitespace(json, pos, length);
+            if (pos >= length || json[pos++] != '"') {
+                return null;
+            }
+            int keyStart = pos;
+            int keyEnd = indexOfQuote(json, pos, length);
+            if (keyEnd < 0) {
+                return null;
+            }
+            pos = skipWhitespace(json, keyEnd + 1, length);
+            if (pos >= length || json[pos++] != ':') {
+                return null;
+            }
+            pos = skipWhitespace(json, pos, length);
+            if (pos >= length) {
+                return null;
+            }
+
+            if (json[pos] == '"') {
+                int valueStart = pos + 1;
+                int valueEnd = indexOfQuote(json, valueStart, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                if (matches(json, keyStart, keyEnd, SUB)) {
+                    userId = parseLong(json, valueStart, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, EMAIL)) {
+                    email = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else if (matches(json, keyStart, keyEnd, USER_ROLE)) {
+                    userRole = role(json, valueStart, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, JTI)) {
+                    tokenId = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else {
+                    return null;
+                }
+                pos = valueEnd + 1;
+            } else {
+                int valueEnd = pos;
+                while (valueEnd < length && json[valueEnd] >= '0' && json[valueEnd] <= '9') {
+                    valueEnd++;
+                }
+                long value = parseLong(json, pos, valueEnd);
+                if (matches(json, keyStart, keyEnd, EXP)) {
+                    exp = value;
+                } else if (matches(json, keyStart, keyEnd, IAT)) {
+                    iat = value;
+                } else if (matches(json, keyStart, keyEnd, EPOCH) && value >= 0) {
+                    securityEpoch = value;
+                } else {
+                    return null;
+                }
+                pos = valueEnd;
+            }
+
+            pos = skipWhitespace(json, pos, length);
+            if (pos >= length) {
+                return null;
+            }
+            byte next = json[pos++];
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                return null;
+            }
+        }
+
+        if (userId < 0 || email == null || userRole == null || exp < 0) {
+            return null;
+        }
+        long expiresAtMillis = exp * 1000;
+        if (nowMillis >= expiresAtMillis) {
+            return null;
+        }
+        return new VerifiedToken(userId, email, userRole, tokenId, securityEpoch, iat * 1000, expiresAtMillis);
+    }
+
+    // escape 문자가 있으면 -1 (이 경우는 jjwt 에 맡긴다)
+    private static int indexOfQuote(byte[] json, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos, int length) {
+        while (pos < length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean matches(byte[] json, int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (json[from + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 숫자가 아니거나 18자리를 넘으면 -1
+    private static long parseLong(byte[] json, int from, int to) {
+        if (from >= to || to - from > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = json[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static UserRole role(byte[] json, int from, int to) {
+        for (int i = 0; i < ROLES.length; i++) {
+            if (matches(json, from, to, ROLE_NAMES[i])) {
+                return ROLES[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * padding 없는 base64url 을 out 에 디코딩하고 길이를 돌려준다. 잘못된 문자가 있으면 -1.
+     */
+    static int decode(String source, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+        int decodedLength = length / 4 * 3 + (length % 4 == 0 ? 0 : length % 4 - 1);
+        if (decodedLength > out.length) {
+            return -1;
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        int written = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        return written;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별 키당 Mac 과 작업 버퍼. 토큰이 더 길면 버퍼만 늘린다.
+     */
+    private static final class Scratch {
+
+        // 교체되어 사라진 키의 Mac 이 쌓이지 않도록 이 수를 넘으면 비운다
+        private static final int MAX_MACS = 16;
+
+        private final Map<Key, Mac> macs = new IdentityHashMap<>();
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private byte[] signingInput = new byte[512];
+        private byte[] payload = new byte[384];
+
+        Mac mac(Key key) {
+            Mac mac = macs.get(key);
+            if (mac == null) {
+                if (macs.size() >= MAX_MACS) {
+                    macs.clear();
+                }
+                try {
+                    mac = Mac.getInstance("HmacSHA256");
+                    mac.init(key);
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+                macs.put(key, mac);
+            }
+            return mac;
+        }
+
+        byte[] signingInput(int length) {
+            if (signingInput.length < length) {
+                signingInput = new byte[length];
+            }
+            return signingInput;
+        }
+
+        byte[] payload(int encodedLength) {
+            int maxDecoded = encodedLength / 4 * 3 + 3;
+            if (payload.length < maxDecoded) {
+                payload = new byte[maxDecoded];
+            }
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(날씨) 호출용 커넥션 풀 HTTP 클라이언트.
+ * 기본 RestTemplate 은 풀링과 타임아웃이 없어 upstream 이 멈추면 요청 스레드가 무한정 묶인다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${weather.http.max-total:50}")
+    private int maxTotal = 50;
+    @Value("${weather.http.max-per-route:20}")
+    private int maxPerRoute = 20;
+    @Value("${weather.http.connect-timeout:PT1S}")
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    @Value("${weather.http.read-timeout:PT2S}")
+    private Duration readTimeout = Duration.ofSeconds(2);
+    // 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+    @Value("${weather.http.connection-request-timeout:PT0.5S}")
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+    @Value("${weather.http.keep-alive:PT30S}")
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager weatherConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient weatherHttpClient(PoolingHttpClientConnectionManager weatherConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(weatherConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .build();
+    }
+
+    // TODO-6
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient weatherHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(weatherHttpClient));
+    }
+
+    /**
+     * 논블로킹 날씨 조회용 WebClient. 커넥션 풀 크기와 타임아웃은 블로킹 클라이언트와 같은 설정을 쓴다.
+     */
+    @Bean
+    public WebClient weatherWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("weather")
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(keepAlive)
+                .maxLifeTime(keepAlive)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // httpcomponents.httpclient.pool.* (leased / available / pending / max) 게이지
+    @Bean
+    public MeterBinder weatherConnectionPoolMetrics(PoolingHttpClientConnectionManager weatherConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(weatherConnectionManager, "weather");
+    }
+}
@@ -1,8 +1,7 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.*;
@@ -10,13 +9,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
-import org.springframework.http.HttpStatus;
+import org.example.expert.domain.user.service.UserSecurityEpochCache;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 // TODO-6
 @Slf4j
@@ -24,7 +22,10 @@ import java.util.Map;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponses errorResponses;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserSecurityEpochCache userSecurityEpochCache;
+    private final RoutePolicyTable routePolicyTable;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
@@ -32,8 +33,11 @@ public class JwtFilter extends OncePerRequestFilter {
         HttpServletResponse httpResponse = response;
 
         String url = httpRequest.getRequestURI();
+        // 경로 정책은 요청마다 여기서 한 번만 정하고, 인터셉터 / AOP 는 이 결과를 읽는다
+        RoutePolicy routePolicy = routePolicyTable.resolve(url);
 
-        if (url.startsWith("/auth")) {
+        if (!routePolicy.requiresAuthentication()) {
+            httpRequest.setAttribute(RoutePolicy.REQUEST_ATTRIBUTE, routePolicy);
             chain.doFilter(request, response);
             return;
         }
@@ -42,7 +46,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
         if (bearerJwt == null) {
             log.warn("인증 헤더 누락: URI={}", url);
-            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+            sendErrorResponse(httpResponse, ErrorMessage.AUTHENTICATION_REQUIRED);
             return;
         }
 
@@ -50,47 +54,55 @@ public class JwtFilter extends OncePerRequestFilter {
 
         try {
             // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
+            VerifiedToken token = jwtUtil.verifyToken(jwt);
+            if (token == null) {
                 log.warn("Claims 추출 실패: URI={}", url);
-                sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+                sendErrorResponse(httpResponse, ErrorMessage.AUTHENTICATION_REQUIRED);
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // 로그아웃 / 비밀번호 변경 / 권한 변경으로 폐기된 토큰
+            if (tokenRevocationList.isRevoked(token)) {
+                log.info("폐기된 토큰: userId={}, URI={}", token.userId(), url);
+                sendErrorResponse(httpResponse, ErrorMessage.AUTHENTICATION_REQUIRED);
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            // 권한 / 비밀번호가 바뀌기 전에 발급된 토큰은 담긴 권한을 믿을 수 없다
+            if (token.securityEpoch() < userSecurityEpochCache.currentEpoch(token.userId())) {
+                log.info("이전 securityEpoch 토큰: userId={}, URI={}", token.userId(), url);
+                sendErrorResponse(httpResponse, ErrorMessage.AUTHENTICATION_REQUIRED);
+                return;
+            }
 
-            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
-                log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
-                sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+            UserRole userRole = token.userRole();
+
+            if (routePolicy.requiresAdmin() && userRole != UserRole.ADMIN) {
+                log.warn("권한 부족: userId={}, role={}, URI={}", token.userId(), userRole, url);
+                sendErrorResponse(httpResponse, ErrorMessage.ACCESS_DENIED);
                 return;
             }
 
+            httpRequest.setAttribute(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(token.userId(), token.email(), userRole));
+            httpRequest.setAttribute(RoutePolicy.REQUEST_ATTRIBUTE, routePolicy);
             chain.doFilter(request, response);
         } catch (ExpiredJwtException e) {
             log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), url);
-            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
-        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException e) {
+            sendErrorResponse(httpResponse, ErrorMessage.AUTHENTICATION_REQUIRED);
+        } catch (MalformedJwtException | UnsupportedJwtException e) {
             log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url, e);
-            sendErrorResponse(httpResponse, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+            sendErrorResponse(httpResponse, ErrorMessage.MALFORMED_TOKEN);
+        } catch (JwtException e) {
+            // 서명 불일치, 모르는 kid, 서명 알고리즘을 바꾸기 전에 발급된 토큰. 위조 시도마다 스택을 남기지 않는다
+            log.info("JWT 서명 검증 실패 [{}]: URI={}, cause={}", e.getClass().getSimpleName(), url, e.getMessage());
+            sendErrorResponse(httpResponse, ErrorMessage.AUTHENTICATION_REQUIRED);
         } catch (Exception e) {
             log.error("예상치 못한 오류: URI={}", url, e);
-            sendErrorResponse(httpResponse, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+            sendErrorResponse(httpResponse, ErrorMessage.INTERNAL_ERROR);
         }
     }
 
-    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
-        response.setStatus(status.value());
-        response.setContentType("application/json;charset=UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    private void sendErrorResponse(HttpServletResponse response, ErrorMessage error) throws IOException {
+        errorResponses.write(response, error);
     }
 }
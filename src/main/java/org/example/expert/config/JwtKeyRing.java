@@ -0,0 +1,179 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * kid 로 찾는 JWT 서명 키 묶음.
+ * <p>
+ * jwt.secret.key 로 만든 기본 키는 kid 없이 발급된 토큰을 검증하는 데 쓰고,
+ * 키 디렉터리의 {@code <kid>.key} 파일(내용은 base64 비밀키) 은 reload() 할 때마다 다시 읽는다.
+ * 디렉터리에 키가 있으면 kid 가 사전순으로 가장 큰 키로 서명하므로, 날짜 형식의 kid(예: 2024-06-01) 를 새로 추가하면 순서대로 교체된다.
+ * 디렉터리에서 사라진 키는 그 토큰이 모두 만료될 때까지(retention) 검증용으로 남겨둔다.
+ * 같은 kid 의 내용은 바꾸지 않는 것을 전제로 한다.
+ * <p>
+ * 조회는 불변 스냅샷에서 HashMap 한 번으로 끝나고, reload 만 락을 잡는다.
+ */
+@Slf4j
+public class JwtKeyRing {
+
+    private static final String KEY_FILE_SUFFIX = ".key";
+    static final Pattern KID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SigningKey defaultKey;
+    private final Path keyDirectory;
+    private final Duration retention;
+
+    // reload 에서만 접근 (synchronized)
+    private final Map<String, Long> removedAtMillis = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * @param defaultKey   kid 없는 토큰용 키. 디렉터리에 키가 없으면 이 키로 서명한다
+     * @param keyDirectory null 이면 기본 키만 쓴다
+     * @param retention    디렉터리에서 사라진 키를 검증용으로 유지하는 시간 (토큰 최대 수명 이상)
+     */
+    public JwtKeyRing(Key defaultKey, Path keyDirectory, Duration retention) {
+        this.defaultKey = new SigningKey(null, defaultKey, encodedHeader(null));
+        this.keyDirectory = keyDirectory;
+        this.retention = retention;
+        this.snapshot = new Snapshot(this.defaultKey, Map.of(), Map.of(this.defaultKey.encodedHeader(), this.defaultKey));
+        reload();
+    }
+
+    /**
+     * 새로 발급하는 토큰에 쓸 키. kid 가 null 이면 헤더에 kid 를 넣지 않는다.
+     */
+    public SigningKey signingKey() {
+        return snapshot.active();
+    }
+
+    /**
+     * 헤더의 kid 로 검증 키를 찾는다. kid 가 없으면 기본 키, 모르는 kid 면 null.
+     */
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            return defaultKey.key();
+        }
+        SigningKey signingKey = snapshot.byKid().get(kid);
+        return signingKey != null ? signingKey.key() : null;
+    }
+
+    /**
+     * base64url 로 인코딩된 헤더 원문으로 키를 찾는다. Hs256TokenVerifier 가 헤더를 파싱하지 않고 쓴다.
+     */
+    Key keyForEncodedHeader(String encodedHeader) {
+        SigningKey signingKey = snapshot.byEncodedHeader().get(encodedHeader);
+        return signingKey != null ? signingKey.key() : null;
+    }
+
+    Set<String> kids() {
+        return snapshot.byKid().keySet();
+    }
+
+    /**
+     * 키 디렉터리를 다시 읽어 스냅샷을 교체한다. 디렉터리를 읽지 못하면 기존 키를 그대로 쓴다.
+     */
+    public synchronized void reload() {
+        if (keyDirectory == null) {
+            return;
+        }
+        Map<String, Key> loaded;
+        try {
+            loaded = readKeyDirectory();
+        } catch (IOException e) {
+            log.warn("JWT 키 디렉터리를 읽지 못해 기존 키를 유지합니다: dir={}", keyDirectory, e);
+            return;
+        }
+
+        long now = clock.millis();
+        Snapshot current = snapshot;
+        Map<String, SigningKey> byKid = new HashMap<>();
+        for (Map.Entry<String, Key> entry : loaded.entrySet()) {
+            SigningKey existing = current.byKid().get(entry.getKey());
+            byKid.put(entry.getKey(), existing != null && existing.key().equals(entry.getValue())
+                    ? existing
+                    : new SigningKey(entry.getKey(), entry.getValue(), encodedHeader(entry.getKey())));
+            removedAtMillis.remove(entry.getKey());
+        }
+        for (SigningKey previous : current.byKid().values()) {
+            if (loaded.containsKey(previous.kid())) {
+                continue;
+            }
+            long removedAt = removedAtMillis.computeIfAbsent(previous.kid(), kid -> now);
+            if (now < removedAt + retention.toMillis()) {
+                byKid.put(previous.kid(), previous);
+            } else {
+                removedAtMillis.remove(previous.kid());
+                log.info("JWT 키 만료로 제거: kid={}", previous.kid());
+            }
+        }
+
+        SigningKey active = loaded.isEmpty()
+                ? defaultKey
+                : byKid.get(Collections.max(loaded.keySet()));
+        Map<String, SigningKey> byEncodedHeader = new HashMap<>();
+        byEncodedHeader.put(defaultKey.encodedHeader(), defaultKey);
+        for (SigningKey signingKey : byKid.values()) {
+            byEncodedHeader.put(signingKey.encodedHeader(), signingKey);
+        }
+
+        if (!Objects.equals(active.kid(), current.active().kid()) || !byKid.keySet().equals(current.byKid().keySet())) {
+            log.info("JWT 키 교체: active={}, kids={}", active.kid(), new TreeSet<>(byKid.keySet()));
+        }
+        snapshot = new Snapshot(active, Map.copyOf(byKid), Map.copyOf(byEncodedHeader));
+    }
+
+    private Map<String, Key> readKeyDirectory() throws IOException {
+        Map<String, Key> keys = new HashMap<>();
+        if (!Files.isDirectory(keyDirectory)) {
+            throw new IOException("디렉터리가 아닙니다: " + keyDirectory);
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(keyDirectory, "*" + KEY_FILE_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - KEY_FILE_SUFFIX.length());
+                if (!KID_PATTERN.matcher(kid).matches() || !Files.isRegularFile(file)) {
+                    log.warn("JWT 키 파일 이름이 올바르지 않아 건너뜁니다: file={}", file);
+                    continue;
+                }
+                try {
+                    String secret = Files.readString(file, StandardCharsets.US_ASCII).trim();
+                    keys.put(kid, Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)));
+                } catch (RuntimeException e) {
+                    // 잘못된 파일 하나 때문에 나머지 키까지 버리지 않는다
+                    log.warn("JWT 키 파일을 읽지 못해 건너뜁니다: file={}, reason={}", file, e.getMessage());
+                }
+            }
+        }
+        return keys;
+    }
+
+    // jjwt 가 HS256 으로 서명할 때 만드는 헤더와 같은 순서로 만든다
+    private static String encodedHeader(String kid) {
+        String header = kid == null
+                ? "{\"alg\":\"HS256\"}"
+                : "{\"kid\":\"" + kid + "\",\"alg\":\"HS256\"}";
+        return BASE64_URL.encodeToString(header.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public record SigningKey(String kid, Key key, String encodedHeader) {
+    }
+
+    private record Snapshot(SigningKey active, Map<String, SigningKey> byKid, Map<String, SigningKey> byEncodedHeader) {
+    }
+}
@@ -1,53 +1,192 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.security.PrivateKey;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
-    @Value("${jwt.secret.key}")
+    @Value("${jwt.secret.key:}")
     private String secretKey;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    private final MeterRegistry meterRegistry;
+
+    // <kid>.key 파일(base64 비밀키) 을 두는 디렉터리. 비어 있으면 jwt.secret.key 하나만 쓴다
+    @Value("${jwt.keys.dir:}")
+    private String keyDirectory = "";
+
+    // HS256 이 아니면 공개키로 검증하고, 개인키가 있는 인스턴스만 토큰을 발급한다 (jwt.secret.key 는 쓰지 않는다)
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String signingAlgorithm = "HS256";
+    @Value("${jwt.signing.kid:}")
+    private String signingKid = "";
+    @Value("${jwt.signing.public-key:}")
+    private String publicKeyPath = "";
+    @Value("${jwt.signing.private-key:}")
+    private String privateKeyPath = "";
+
+    // 같은 토큰이 반복해서 들어오면 서명 검증과 JSON 파싱을 exp 까지 한 번만 한다.
+    // HS256 의 verifyToken 은 캐시보다 싼 전용 검증기가 먼저 처리하므로, 캐시는 extractClaims 와 jjwt 로 넘어간 토큰만 본다.
+    // 그래서 모든 요청이 캐시를 거치는 ES256 / EdDSA 와 크기를 따로 잡는다
+    @Value("${jwt.cache.enabled:true}")
+    private boolean cacheEnabled = true;
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize = 10000;
+    @Value("${jwt.cache.hs256-max-size:1000}")
+    private int hs256CacheMaxSize = 1000;
+
+    // 파서는 불변이고 thread-safe 하므로 한 번만 만든다
+    private JwtKeyRing keyRing;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+    private Hs256TokenVerifier fastVerifier;
+    private AsymmetricTokenCodec asymmetricCodec;
+    private Counter fastPathVerifications;
+    private Counter fallbackVerifications;
+
     @PostConstruct
     public void init() {
+        fastPathVerifications = meterRegistry.counter("jwt.verifications", "path", "fast");
+        fallbackVerifications = meterRegistry.counter("jwt.verifications", "path", "jjwt");
+
+        AsymmetricTokenCodec.Algorithm algorithm = AsymmetricTokenCodec.Algorithm.of(signingAlgorithm);
+        if (cacheEnabled) {
+            verifiedTokenCache = new VerifiedTokenCache(algorithm != null ? cacheMaxSize : hs256CacheMaxSize, meterRegistry);
+        }
+        if (algorithm != null) {
+            asymmetricCodec = createAsymmetricCodec(algorithm);
+            log.info("JWT 서명 방식: {}, 토큰 발급 {}", signingAlgorithm, asymmetricCodec.canSign() ? "가능" : "불가 (검증 전용)");
+            return;
+        }
+
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // 교체된 키로 서명된 토큰도 만료될 때까지는 검증할 수 있어야 한다
+        keyRing = new JwtKeyRing(key, StringUtils.hasText(keyDirectory) ? Path.of(keyDirectory) : null,
+                Duration.ofMillis(TOKEN_TIME));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key signingKey = keyRing.verificationKey(header.getKeyId());
+                        if (signingKey == null) {
+                            throw new SignatureException("알 수 없는 kid 입니다: " + header.getKeyId());
+                        }
+                        return signingKey;
+                    }
+                })
+                .build();
+        fastVerifier = new Hs256TokenVerifier(keyRing);
+    }
+
+    private AsymmetricTokenCodec createAsymmetricCodec(AsymmetricTokenCodec.Algorithm algorithm) {
+        if (!StringUtils.hasText(publicKeyPath)) {
+            throw new IllegalStateException("jwt.signing.public-key 가 필요합니다: algorithm=" + signingAlgorithm);
+        }
+        String kid = StringUtils.hasText(signingKid) ? signingKid : null;
+        if (kid != null && !JwtKeyRing.KID_PATTERN.matcher(kid).matches()) {
+            throw new IllegalStateException("jwt.signing.kid 가 올바르지 않습니다: " + kid);
+        }
+        try {
+            PrivateKey privateKey = StringUtils.hasText(privateKeyPath)
+                    ? AsymmetricTokenCodec.readPrivateKey(Path.of(privateKeyPath), algorithm)
+                    : null;
+            return new AsymmetricTokenCodec(algorithm, kid,
+                    AsymmetricTokenCodec.readPublicKey(Path.of(publicKeyPath), algorithm), privateKey);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다: algorithm=" + signingAlgorithm, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval:PT30S}")
+    public void reloadKeys() {
+        if (keyRing != null) {
+            keyRing.reload();
+        }
+    }
+
+    /**
+     * 비대칭 모드에서 개인키가 없는 검증 전용 인스턴스면 false.
+     */
+    public boolean canIssueTokens() {
+        return asymmetricCodec == null || asymmetricCodec.canSign();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
+        return createToken(userId, email, userRole, 0L);
+    }
+
+    public String createToken(Long userId, String email, UserRole userRole, long securityEpoch) {
         Date date = new Date();
+        if (asymmetricCodec != null) {
+            return BEARER_PREFIX + createAsymmetricToken(userId, email, userRole, securityEpoch, date);
+        }
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
 
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid());
+        }
         return BEARER_PREFIX +
-                Jwts.builder()
+                builder
                         .setSubject(String.valueOf(userId))
+                        .setId(UUID.randomUUID().toString()) // 로그아웃 시 이 토큰만 폐기하기 위한 식별자
                         .claim("email", email)
                         .claim("userRole", userRole)
+                        .claim("epoch", securityEpoch) // 권한 / 비밀번호 변경 이전 토큰 구분
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                        .signWith(signingKey.key(), signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    // jjwt builder 와 같은 claim 순서, 같은 초 단위 시각
+    private String createAsymmetricToken(Long userId, String email, UserRole userRole, long securityEpoch, Date date) {
+        if (!asymmetricCodec.canSign()) {
+            throw new ServerException("토큰을 발급할 수 없는 인스턴스입니다.");
+        }
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put(Claims.SUBJECT, String.valueOf(userId));
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        claims.put("email", email);
+        claims.put("userRole", userRole.name());
+        claims.put("epoch", securityEpoch);
+        claims.put(Claims.EXPIRATION, (date.getTime() + TOKEN_TIME) / 1000);
+        claims.put(Claims.ISSUED_AT, date.getTime() / 1000);
+        return asymmetricCodec.sign(claims);
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -55,10 +194,37 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    /**
+     * 직접 발급한 형태의 HS256 토큰은 Claims 를 만들지 않는 전용 검증기로 처리하고,
+     * 그 밖의 토큰(다른 헤더, 서명 오류, 만료 등)은 jjwt 로 검증해 jjwt 예외를 그대로 던진다.
+     * 전용 검증기는 HMAC 한 번이라 캐시 키(SHA-256) 계산과 비용이 비슷하므로 캐시를 보지 않는다.
+     * 비대칭 모드에서는 공개키로 검증하고, 서명 검증 비용이 크므로 검증 결과 캐시를 함께 쓴다.
+     */
+    public VerifiedToken verifyToken(String token) {
+        if (asymmetricCodec != null) {
+            return VerifiedToken.from(extractClaims(token));
+        }
+        VerifiedToken verified = fastVerifier.verify(token, System.currentTimeMillis());
+        if (verified != null) {
+            fastPathVerifications.increment();
+            return verified;
+        }
+        fallbackVerifications.increment();
+        return VerifiedToken.from(extractClaims(token));
+    }
+
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        if (verifiedTokenCache != null) {
+            return verifiedTokenCache.getOrVerify(token, this::parseClaims);
+        }
+        return parseClaims(token);
+    }
+
+    private Claims parseClaims(String token) {
+        if (asymmetricCodec != null) {
+            return asymmetricCodec.verify(token, System.currentTimeMillis());
+        }
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
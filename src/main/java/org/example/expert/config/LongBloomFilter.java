@@ -0,0 +1,78 @@
+package org.example.expert.config;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 64비트 키용 Bloom filter. 조회는 락 없이 비트 몇 개만 읽는다.
+ * 비트 수를 2의 거듭제곱으로 올려 나눗셈 대신 마스크로 위치를 구한다.
+ * 한 번 넣은 키는 지울 수 없으므로, 오래된 키를 정리하려면 새로 만들어 교체한다.
+ */
+final class LongBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final long bitMask;
+    private final int hashCount;
+
+    LongBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(1, expectedEntries);
+        long bits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(1 << 30, Long.highestOneBit(Math.max(1, (bits + 63) / 64) * 2 - 1));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.bitMask = bitCount - 1;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / entries * LN2));
+    }
+
+    void put(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            long mask = 1L << bit;
+            words.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // 문자열 키(jti)를 64비트로 줄인다 (FNV-1a)
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe53a9b5bL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
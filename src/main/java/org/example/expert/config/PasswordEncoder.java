@@ -1,17 +1,143 @@
 package org.example.expert.config;
 
-import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 해시 / 검증. 새 해시는 password.hashing.algorithm 의 PasswordHasher 로 만들고,
+ * 검증은 저장된 해시의 $id$ 로 구현을 골라 하므로 알고리즘을 바꿔도 이전 해시로 로그인할 수 있다.
+ * 해시는 요청 스레드가 아니라 PasswordHashingExecutor 의 스레드에서 돈다.
+ * <p>
+ * 다른 알고리즘 / 파라미터로 저장된 해시는 로그인에 성공했을 때 백그라운드에서 다시 해시한다.
+ * 다시 만든 해시의 저장(DB 쓰기) 은 해시 스레드가 아니라 별도 스레드 하나에서 하므로, DB 가 느려도 해시 스레드를 잡지 않는다.
+ */
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class PasswordEncoder {
 
+    private final PasswordHashingExecutor hashingExecutor;
+    private final List<PasswordHasher> hashers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${password.hashing.algorithm:bcrypt}")
+    private String algorithm = BCryptPasswordHasher.NAME;
+
+    // 재해시 결과 저장 대기열. 넘치면 이번 재해시는 버리고 다음 로그인에서 다시 시도한다
+    private static final int REHASH_WRITE_QUEUE_CAPACITY = 100;
+
+    private final Map<String, PasswordHasher> hashersById = new HashMap<>();
+    private final ThreadPoolExecutor rehashWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(REHASH_WRITE_QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "password-rehash-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private PasswordHasher current;
+    private Counter rehashScheduled;
+    private Counter rehashDropped;
+
+    @PostConstruct
+    public void init() {
+        hashersById.clear();
+        current = null;
+        for (PasswordHasher hasher : hashers) {
+            for (String id : hasher.ids()) {
+                if (hashersById.putIfAbsent(id, hasher) != null) {
+                    throw new IllegalStateException("같은 해시 id 를 쓰는 구현이 둘 이상입니다: " + id);
+                }
+            }
+            if (hasher.name().equalsIgnoreCase(algorithm)) {
+                current = hasher;
+            }
+        }
+        if (current == null) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+        rehashScheduled = meterRegistry.counter("password.rehash", "result", "scheduled");
+        rehashDropped = meterRegistry.counter("password.rehash", "result", "dropped");
+        log.info("비밀번호 해시 알고리즘: {}", current.name());
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        PasswordHasher hasher = current;
+        return hashingExecutor.execute("encode", () -> hasher.hash(rawPassword));
     }
 
+    /**
+     * 형식을 알 수 없는 해시는 일치하지 않는 것으로 본다.
+     */
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        PasswordHasher hasher = hasherOf(encodedPassword);
+        if (hasher == null) {
+            return false;
+        }
+        return hashingExecutor.execute("matches", () -> hasher.verify(rawPassword, encodedPassword));
+    }
+
+    /**
+     * encodedPassword 가 지금 알고리즘 / 파라미터와 다르게 만든 해시인지.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return hasherOf(encodedPassword) != current || current.needsRehash(encodedPassword);
+    }
+
+    /**
+     * 검증에 성공한 비밀번호를 지금 설정으로 다시 해시해 onRehashed 로 넘긴다. 기다리지 않는다.
+     * onRehashed 는 해시 스레드가 아닌 저장 전용 스레드에서 호출된다.
+     * 해시 스레드가 모두 바쁘거나 저장 대기열이 가득 차면 이번에는 건너뛰고 다음 로그인에서 다시 시도한다.
+     */
+    public void rehashInBackground(String rawPassword, String encodedPassword, Consumer<String> onRehashed) {
+        if (!needsRehash(encodedPassword)) {
+            return;
+        }
+        PasswordHasher hasher = current;
+        if (hashingExecutor.executeInBackground("rehash", () -> write(hasher.hash(rawPassword), onRehashed))) {
+            rehashScheduled.increment();
+        } else {
+            rehashDropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rehashWriter.shutdown();
+    }
+
+    private void write(String rehashed, Consumer<String> onRehashed) {
+        try {
+            rehashWriter.execute(() -> {
+                try {
+                    onRehashed.accept(rehashed);
+                } catch (RuntimeException e) {
+                    log.warn("재해시한 비밀번호 저장 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rehashDropped.increment();
+        }
+    }
+
+    private PasswordHasher hasherOf(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith("$")) {
+            return null;
+        }
+        int end = encodedPassword.indexOf('$', 1);
+        return end < 0 ? null : hashersById.get(encodedPassword.substring(1, end));
     }
 }
@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import java.util.Set;
+
+/**
+ * 비밀번호 해시 알고리즘 하나. 저장하는 해시는 $&lt;id&gt;$... 로 시작해 알고리즘과 파라미터를 스스로 담고,
+ * PasswordEncoder 는 이 id 로 검증할 구현을 고른다. 그래서 서로 다른 알고리즘 / 파라미터의 해시가 함께 있어도 된다.
+ * <p>
+ * 구현은 CPU 를 쓰는 동기 호출이며, PasswordEncoder 가 PasswordHashingExecutor 의 스레드에서 부른다.
+ */
+public interface PasswordHasher {
+
+    /**
+     * password.hashing.algorithm 에 쓰는 이름.
+     */
+    String name();
+
+    /**
+     * 검증할 수 있는 해시의 id ($2a$... 이면 2a).
+     */
+    Set<String> ids();
+
+    /**
+     * 지금 설정한 파라미터로 새 salt 를 만들어 해시한다.
+     */
+    String hash(String rawPassword);
+
+    /**
+     * encodedPassword 에 담긴 파라미터로 다시 계산해 비교한다.
+     */
+    boolean verify(String rawPassword, String encodedPassword);
+
+    /**
+     * 지금 설정과 다른 파라미터로 만든 해시인지.
+     */
+    boolean needsRehash(String encodedPassword);
+}
@@ -0,0 +1,193 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 / 검증 전용 스레드 풀.
+ * 요청 스레드는 결과를 기다리기만 하고, CPU 를 쓰는 해시는 이 풀의 스레드 수(기본값 코어 수) 만큼만 동시에 돈다.
+ * <p>
+ * 대기열이 가득 찼거나 max-wait 안에 시작하지 못한 작업은 TooManyRequestsException(429) 으로 바로 거절한다.
+ * 로그인이 몰려도 해시를 기다리는 요청 스레드는 threads + queue-capacity 개를 넘지 않으므로 나머지 API 는 계속 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    // 0 이면 사용 가능한 코어 수
+    @Value("${password.hashing.threads:0}")
+    private int threads = 0;
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity = 64;
+    @Value("${password.hashing.max-wait:PT2S}")
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    private ThreadPoolExecutor executor;
+    private final Map<String, Timer> hashTimers = new ConcurrentHashMap<>();
+    private Timer waitTimer;
+    private Counter rejectedQueueFull;
+    private Counter rejectedTimeout;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        executor.prestartAllCoreThreads();
+
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("해시 스레드를 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        waitTimer = Timer.builder("password.hashing.wait")
+                .description("대기열에서 해시 스레드가 잡기까지 걸린 시간")
+                .register(meterRegistry);
+        rejectedQueueFull = Counter.builder("password.hashing.rejected")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        rejectedTimeout = Counter.builder("password.hashing.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        log.info("비밀번호 해시 스레드 풀: threads={}, queueCapacity={}, maxWait={}", poolSize, queueCapacity, maxWait);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 당장 쉬는 해시 스레드가 있을 때만 task 를 맡기고 기다리지 않는다 (로그인 후 재해시 등).
+     * 요청이 처리할 작업을 밀어내지 않도록 대기열에 작업이 있으면 맡기지 않고 false 를 돌려준다.
+     */
+    public boolean executeInBackground(String operation, Runnable task) {
+        if (!executor.getQueue().isEmpty() || executor.getActiveCount() >= executor.getMaximumPoolSize()) {
+            return false;
+        }
+        Timer hashTimer = hashTimer(operation);
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("백그라운드 해시 작업 실패: operation={}", operation, e);
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * task 를 해시 스레드에서 실행하고 결과를 기다린다. operation 은 지연 시간 지표의 태그다.
+     * task 가 던진 RuntimeException 은 그대로 다시 던진다.
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer hashTimer = hashTimer(operation);
+        // 시간 안에 시작하지 못해 호출자가 포기한 작업은 나중에 스레드가 잡더라도 해시하지 않는다
+        AtomicBoolean claimed = new AtomicBoolean();
+        long submittedAt = System.nanoTime();
+        FutureTask<T> future = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                return task.get();
+            } finally {
+                hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new TooManyRequestsException(ErrorMessage.HASHING_OVERLOADED.message());
+        }
+
+        boolean interrupted = false;
+        try {
+            try {
+                return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    executor.remove(future);
+                    rejectedTimeout.increment();
+                    throw new TooManyRequestsException(ErrorMessage.HASHING_OVERLOADED.message());
+                }
+                // 이미 해시 중이면 끝날 때까지 기다린다
+            } catch (InterruptedException e) {
+                interrupted = true;
+                if (claimed.compareAndSet(false, true)) {
+                    executor.remove(future);
+                    throw new ServerException("요청 처리 중 오류가 발생했습니다.");
+                }
+            }
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ServerException("요청 처리 중 오류가 발생했습니다.");
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Timer hashTimer(String operation) {
+        return hashTimers.computeIfAbsent(operation, key -> Timer.builder("password.hashing.duration")
+                .tag("operation", key)
+                .register(meterRegistry));
+    }
+}
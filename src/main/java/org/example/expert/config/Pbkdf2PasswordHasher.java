@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PBKDF2-HMAC-SHA256 (JDK). 해시 형식은 $pbkdf2-sha256$i=600000$salt$hash.
+ * 메모리를 거의 쓰지 않으므로 GPU 공격에 가장 약하다. FIPS 등으로 다른 알고리즘을 쓸 수 없을 때만 쓴다.
+ */
+@Component
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    static final String ID = "pbkdf2-sha256";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    @Value("${password.pbkdf2.iterations:600000}")
+    private int iterations = 600_000;
+
+    @PostConstruct
+    public void init() {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("PBKDF2 반복 횟수가 올바르지 않습니다: " + iterations);
+        }
+    }
+
+    @Override
+    public String name() {
+        return ID;
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of(ID);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        byte[] salt = PhcString.randomSalt(SALT_LENGTH);
+        return new PhcString(ID, -1, Map.of("i", iterations), salt, derive(rawPassword, salt, iterations, HASH_LENGTH)).encode();
+    }
+
+    @Override
+    public boolean verify(String rawPassword, String encodedPassword) {
+        PhcString phc = PhcString.parse(encodedPassword);
+        if (phc == null || !ID.equals(phc.id()) || phc.param("i") < 1) {
+            return false;
+        }
+        return phc.hashEquals(derive(rawPassword, phc.salt(), phc.param("i"), phc.hash().length));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        PhcString phc = PhcString.parse(encodedPassword);
+        return phc == null || !ID.equals(phc.id()) || phc.param("i") != iterations;
+    }
+
+    private static byte[] derive(String rawPassword, byte[] salt, int iterations, int length) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, length * 8);
+        try {
+            return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
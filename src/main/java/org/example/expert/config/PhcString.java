@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * $&lt;id&gt;[$v=&lt;version&gt;]$&lt;name&gt;=&lt;value&gt;,...$&lt;salt&gt;$&lt;hash&gt; 형식의 해시 문자열 (PHC string format).
+ * salt 와 hash 는 패딩 없는 base64, 파라미터 값은 모두 정수다. version 이 없으면 -1.
+ */
+record PhcString(String id, int version, Map<String, Integer> params, byte[] salt, byte[] hash) {
+
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    static byte[] randomSalt(int length) {
+        byte[] salt = new byte[length];
+        RANDOM.nextBytes(salt);
+        return salt;
+    }
+
+    /**
+     * 형식이 맞지 않으면 null.
+     */
+    static PhcString parse(String encoded) {
+        if (encoded == null || !encoded.startsWith("$")) {
+            return null;
+        }
+        String[] fields = encoded.substring(1).split("\\$", -1);
+        if (fields.length != 4 && fields.length != 5) {
+            return null;
+        }
+        int index = 1;
+        int version = -1;
+        try {
+            if (fields.length == 5) {
+                if (!fields[index].startsWith("v=")) {
+                    return null;
+                }
+                version = Integer.parseInt(fields[index++].substring(2));
+            }
+            Map<String, Integer> params = new LinkedHashMap<>();
+            for (String param : fields[index++].split(",")) {
+                int separator = param.indexOf('=');
+                if (separator <= 0) {
+                    return null;
+                }
+                params.put(param.substring(0, separator), Integer.parseInt(param.substring(separator + 1)));
+            }
+            byte[] salt = BASE64_DECODER.decode(fields[index++]);
+            byte[] hash = BASE64_DECODER.decode(fields[index]);
+            if (salt.length == 0 || hash.length == 0) {
+                return null;
+            }
+            return new PhcString(fields[0], version, params, salt, hash);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            return null;
+        }
+    }
+
+    int param(String name) {
+        Integer value = params.get(name);
+        return value != null ? value : -1;
+    }
+
+    /**
+     * 같은 길이의 계산 결과와 상수 시간으로 비교한다.
+     */
+    boolean hashEquals(byte[] computed) {
+        return MessageDigest.isEqual(hash, computed);
+    }
+
+    String encode() {
+        StringBuilder encoded = new StringBuilder("$").append(id);
+        if (version >= 0) {
+            encoded.append("$v=").append(version);
+        }
+        StringJoiner joined = new StringJoiner(",");
+        params.forEach((name, value) -> joined.add(name + "=" + value));
+        return encoded.append('$').append(joined)
+                .append('$').append(BASE64_ENCODER.encodeToString(salt))
+                .append('$').append(BASE64_ENCODER.encodeToString(hash))
+                .toString();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 Bloom filter. 회원가입 중복 확인에서 "확실히 없다" 면 DB 조회를 건너뛰고, "있을 수도 있다" 일 때만 DB 에 묻는다.
+ * <p>
+ * 시작할 때 users 테이블의 이메일을 한 번에 올리지 않고 스트림으로 읽어 채우고, 이후에는 가입할 때마다 넣는다.
+ * 채우기 전에는 모두 "있을 수도 있다" 로 답해 DB 로 확인한다. 다른 인스턴스에서 가입한 이메일은 모르므로
+ * 이 필터를 지나 저장하려다 users.email 유니크 제약에 걸릴 수 있고, 그 경우는 AuthService 가 중복으로 처리한다.
+ * <p>
+ * 메모리: 오탐률 1% 기준 이메일 100만 개에 약 9.6M 비트가 필요하고, LongBloomFilter 가 비트 수를 2의 거듭제곱으로
+ * 올리므로 실제로는 2MiB (16.8M 비트, 해시 12개, 오탐률 약 0.03%) 를 쓴다. 이메일 문자열은 보관하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.email-filter.expected-entries:1000000}")
+    private int expectedEntries = 1_000_000;
+    @Value("${user.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    private volatile LongBloomFilter bloomFilter;
+    private volatile boolean ready;
+    private final AtomicLong entries = new AtomicLong();
+
+    private Counter absent;
+    private Counter maybePresent;
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = new LongBloomFilter(expectedEntries, falsePositiveRate);
+        absent = meterRegistry.counter("user.email-filter.checks", "result", "absent");
+        maybePresent = meterRegistry.counter("user.email-filter.checks", "result", "maybe");
+        meterRegistry.gauge("user.email-filter.entries", entries);
+    }
+
+    /**
+     * false 면 가입된 적 없는 이메일이다. true 면 DB 로 확인해야 한다.
+     */
+    public boolean mightExist(String email) {
+        if (!ready || bloomFilter.mightContain(key(email))) {
+            maybePresent.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    public void add(String email) {
+        bloomFilter.put(key(email));
+        entries.incrementAndGet();
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // 가입자가 예상보다 많으면 오탐률이 오르지 않도록 크기를 늘린다
+        long userCount = userRepository.count();
+        LongBloomFilter filter = new LongBloomFilter((int) Math.min(Integer.MAX_VALUE, Math.max(expectedEntries, userCount * 2)),
+                falsePositiveRate);
+        // 먼저 바꿔 두어야 읽는 동안 가입한 이메일도 새 필터에 들어간다
+        bloomFilter = filter;
+        entries.set(0);
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(this::add);
+        }
+        ready = true;
+        log.info("가입 이메일 Bloom filter 적재: count={}, bits={}", entries.get(), filter.bitCount());
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    // 대소문자만 다른 이메일은 같은 키로 넣는다 (오탐만 늘 뿐 놓치지는 않는다)
+    private static long key(String email) {
+        return LongBloomFilter.hash(email.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 경로별 접근 정책. JwtFilter 가 요청마다 한 번 정하고 request attribute 로 남긴다.
+ * 인터셉터와 AOP 는 이 값을 읽기만 하고 권한을 다시 판단하지 않는다.
+ */
+public enum RoutePolicy {
+
+    PUBLIC(false, false, false),
+    AUTHENTICATED(true, false, false),
+    ADMIN(true, true, false),
+    // 관리자 전용이면서 접근 기록을 남기는 경로
+    AUDITED(true, true, true);
+
+    public static final String REQUEST_ATTRIBUTE = RoutePolicy.class.getName();
+
+    private final boolean requiresAuthentication;
+    private final boolean requiresAdmin;
+    private final boolean audited;
+
+    RoutePolicy(boolean requiresAuthentication, boolean requiresAdmin, boolean audited) {
+        this.requiresAuthentication = requiresAuthentication;
+        this.requiresAdmin = requiresAdmin;
+        this.audited = audited;
+    }
+
+    public boolean requiresAuthentication() {
+        return requiresAuthentication;
+    }
+
+    public boolean requiresAdmin() {
+        return requiresAdmin;
+    }
+
+    public boolean audited() {
+        return audited;
+    }
+
+    /**
+     * JwtFilter 가 통과시킨 요청의 정책. 필터를 거치지 않았으면 null.
+     */
+    public static RoutePolicy of(HttpServletRequest request) {
+        return (RoutePolicy) request.getAttribute(REQUEST_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 경로별 접근 정책을 한곳에 모은다. 여기에 없는 경로는 로그인이 필요하다.
+ */
+@Configuration
+public class RoutePolicyConfig {
+
+    @Bean
+    public RoutePolicyTable routePolicyTable() {
+        return RoutePolicyTable.builder()
+                .route("/auth/**", RoutePolicy.PUBLIC)
+                .route("/admin/**", RoutePolicy.AUDITED)
+                .defaultPolicy(RoutePolicy.AUTHENTICATED)
+                .build();
+    }
+}
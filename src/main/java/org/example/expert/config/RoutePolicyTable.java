@@ -0,0 +1,207 @@
+package org.example.expert.config;
+
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로 패턴별 RoutePolicy 를 시작할 때 세그먼트 단위 트라이로 만들어 두고 요청 경로로 찾는다.
+ * <p>
+ * 패턴은 {@code /admin/**}, {@code /todos/*}/comments, {@code /auth/signin} 처럼 쓰고,
+ * 더 구체적인 패턴이 이긴다 (고정 세그먼트 > {@code *} > {@code **}). 어느 패턴에도 맞지 않으면 기본 정책을 쓴다.
+ * 조회는 경로 문자열을 나누지 않고 세그먼트 위치만 옮겨 가며 비교한다.
+ */
+public final class RoutePolicyTable {
+
+    private static final String SINGLE = "*";
+    private static final String REST = "**";
+
+    private final Node root;
+    private final RoutePolicy defaultPolicy;
+
+    private RoutePolicyTable(Node root, RoutePolicy defaultPolicy) {
+        this.root = root;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청 URI(인코딩된 원문) 의 정책. 퍼센트 인코딩, ;파라미터, . / .. 세그먼트는 Spring MVC 가 보는 경로와 같아지도록 먼저 풀어낸다.
+     */
+    public RoutePolicy resolve(String requestUri) {
+        String path = normalize(requestUri);
+        RoutePolicy policy = match(root, path, nextSegmentStart(path, 0));
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    private static RoutePolicy match(Node node, String path, int start) {
+        if (start >= path.length()) {
+            // /admin/** 는 /admin 자체에도 맞는다
+            return node.policy != null ? node.policy : node.restPolicy;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = nextSegmentStart(path, end);
+
+        Node exact = node.child(path, start, end);
+        if (exact != null) {
+            RoutePolicy policy = match(exact, path, next);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        if (node.singleChild != null) {
+            RoutePolicy policy = match(node.singleChild, path, next);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return node.restPolicy;
+    }
+
+    // 연속된 / 와 끝의 / 는 빈 세그먼트로 보지 않는다
+    private static int nextSegmentStart(String path, int from) {
+        int index = from;
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static String normalize(String requestUri) {
+        String path = requestUri;
+        if (path.indexOf(';') >= 0) {
+            StringBuilder stripped = new StringBuilder(path.length());
+            int index = 0;
+            while (index < path.length()) {
+                char c = path.charAt(index);
+                if (c == ';') {
+                    while (index < path.length() && path.charAt(index) != '/') {
+                        index++;
+                    }
+                    continue;
+                }
+                stripped.append(c);
+                index++;
+            }
+            path = stripped.toString();
+        }
+        if (path.indexOf('%') >= 0) {
+            path = UriUtils.decode(path, StandardCharsets.UTF_8);
+        }
+        if (path.indexOf('.') >= 0) {
+            path = removeDotSegments(path);
+        }
+        return path;
+    }
+
+    // /auth/../todos 가 /auth/** 로 잡히지 않도록 서블릿 컨테이너처럼 . 과 .. 을 풀어낸다 (RFC 3986, 루트 위로는 올라가지 않는다)
+    private static String removeDotSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            }
+            if ("..".equals(segment)) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+                continue;
+            }
+            segments.add(segment);
+        }
+        return "/" + String.join("/", segments);
+    }
+
+    private static final class Node {
+
+        private String[] names = new String[0];
+        private Node[] children = new Node[0];
+        private Node singleChild;
+        private RoutePolicy policy;
+        private RoutePolicy restPolicy;
+
+        Node child(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && path.regionMatches(start, name, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childForDeclaration(String segment) {
+            if (SINGLE.equals(segment)) {
+                if (singleChild == null) {
+                    singleChild = new Node();
+                }
+                return singleChild;
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            Node child = new Node();
+            names = Arrays.copyOf(names, names.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            names[names.length - 1] = segment;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Node root = new Node();
+        private final List<String> patterns = new ArrayList<>();
+        private RoutePolicy defaultPolicy = RoutePolicy.AUTHENTICATED;
+
+        public Builder route(String pattern, RoutePolicy policy) {
+            if (!pattern.startsWith("/")) {
+                throw new IllegalArgumentException("경로 패턴은 / 로 시작해야 합니다: " + pattern);
+            }
+            if (patterns.contains(pattern)) {
+                throw new IllegalArgumentException("중복된 경로 패턴입니다: " + pattern);
+            }
+            patterns.add(pattern);
+
+            Node node = root;
+            String[] segments = Arrays.stream(pattern.split("/"))
+                    .filter(segment -> !segment.isEmpty())
+                    .toArray(String[]::new);
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (REST.equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("** 는 패턴의 마지막에만 쓸 수 있습니다: " + pattern);
+                    }
+                    node.restPolicy = policy;
+                    return this;
+                }
+                node = node.childForDeclaration(segment);
+            }
+            node.policy = policy;
+            return this;
+        }
+
+        public Builder defaultPolicy(RoutePolicy policy) {
+            this.defaultPolicy = policy;
+            return this;
+        }
+
+        public RoutePolicyTable build() {
+            return new RoutePolicyTable(root, defaultPolicy);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import org.bouncycastle.crypto.generators.SCrypt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * scrypt. 해시 형식은 $scrypt$ln=15,r=8,p=1$salt$hash (N = 2^ln).
+ * 해시 한 번에 128 * N * r 바이트를 쓴다 (기본값 32MiB). 동시에 도는 해시 수(해시 스레드 수) 만큼 곱해진다.
+ */
+@Component
+public class SCryptPasswordHasher implements PasswordHasher {
+
+    static final String ID = "scrypt";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    @Value("${password.scrypt.log-n:15}")
+    private int logN = 15;
+    @Value("${password.scrypt.block-size:8}")
+    private int blockSize = 8;
+    @Value("${password.scrypt.parallelism:1}")
+    private int parallelism = 1;
+
+    @PostConstruct
+    public void init() {
+        if (logN < 1 || logN > 30 || blockSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("scrypt 파라미터가 올바르지 않습니다: ln=" + logN + ", r=" + blockSize + ", p=" + parallelism);
+        }
+    }
+
+    @Override
+    public String name() {
+        return ID;
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of(ID);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        byte[] salt = PhcString.randomSalt(SALT_LENGTH);
+        Map<String, Integer> params = new LinkedHashMap<>();
+        params.put("ln", logN);
+        params.put("r", blockSize);
+        params.put("p", parallelism);
+        return new PhcString(ID, -1, params, salt, derive(rawPassword, salt, logN, blockSize, parallelism, HASH_LENGTH)).encode();
+    }
+
+    @Override
+    public boolean verify(String rawPassword, String encodedPassword) {
+        PhcString phc = PhcString.parse(encodedPassword);
+        if (phc == null || !ID.equals(phc.id())) {
+            return false;
+        }
+        try {
+            return phc.hashEquals(derive(rawPassword, phc.salt(), phc.param("ln"), phc.param("r"), phc.param("p"), phc.hash().length));
+        } catch (IllegalArgumentException e) {
+            // 범위를 벗어난 파라미터
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        PhcString phc = PhcString.parse(encodedPassword);
+        return phc == null || !ID.equals(phc.id())
+                || phc.param("ln") != logN || phc.param("r") != blockSize || phc.param("p") != parallelism;
+    }
+
+    private static byte[] derive(String rawPassword, byte[] salt, int logN, int blockSize, int parallelism, int length) {
+        if (logN < 1 || logN > 30) {
+            throw new IllegalArgumentException("ln=" + logN);
+        }
+        return SCrypt.generate(rawPassword.getBytes(StandardCharsets.UTF_8), salt, 1 << logN, blockSize, parallelism, length);
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.event.UserSecurityEpochChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 목록. 로그아웃한 토큰(jti) 과 사용자별 기준 시각(그 이전에 발급된 토큰은 모두 무효) 을 보관한다.
+ * <p>
+ * 요청마다 Bloom filter 를 락 없이 한 번 확인하고, 대부분의 요청은 여기서 통과한다.
+ * Bloom filter 가 "있을 수도 있다" 고 답한 경우에만 정확한 ConcurrentHashMap 으로 확인한다.
+ * 항목은 토큰 최대 수명이 지나면 의미가 없으므로 sweep 에서 지우고, 그때 Bloom filter 를 다시 만든다.
+ * <p>
+ * 인스턴스 메모리에만 있으므로 여러 대로 띄우면 각 인스턴스가 받은 폐기만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    // Bloom filter 안에서 사용자 키와 토큰 키가 겹치지 않도록 섞는 값
+    private static final long TOKEN_KEY_SALT = 0x6A09E667F3BCC909L;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries = 100_000;
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    // jti -> 토큰 만료 시각, userId -> 기준 시각
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> userCutoffs = new ConcurrentHashMap<>();
+
+    private volatile LongBloomFilter bloomFilter;
+    private Clock clock = Clock.systemUTC();
+
+    private Counter revokedHits;
+    private Counter falsePositives;
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = new LongBloomFilter(expectedEntries, falsePositiveRate);
+        revokedHits = meterRegistry.counter("jwt.revocation.bloom.positives", "result", "revoked");
+        falsePositives = meterRegistry.counter("jwt.revocation.bloom.positives", "result", "false_positive");
+        Gauge.builder("jwt.revocation.entries", this, list -> list.revokedTokens.size() + list.userCutoffs.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그아웃한 토큰 하나를 만료 시각까지 막는다.
+     */
+    public synchronized void revokeToken(String tokenId, long expiresAtMillis) {
+        revokedTokens.put(tokenId, expiresAtMillis);
+        bloomFilter.put(tokenKey(tokenId));
+    }
+
+    /**
+     * 지금 이전에 발급된 사용자의 모든 토큰을 막는다 (비밀번호 변경, 권한 변경).
+     * iat 는 초 단위이므로 기준 시각도 초 단위로 내려, 같은 초에 새로 발급된 토큰(변경 직후 다시 로그인) 은 통과시킨다.
+     * 같은 초에 변경 전에 발급된 토큰은 여기서 막지 못하지만, 비밀번호 / 권한 변경은 securityEpoch 도 올리므로 그쪽에서 막힌다.
+     */
+    public synchronized void revokeAllIssuedBefore(long userId) {
+        long now = clock.millis();
+        userCutoffs.merge(userId, now - now % 1000, Math::max);
+        bloomFilter.put(userId);
+    }
+
+    /**
+     * 비밀번호 / 권한 변경이 커밋된 뒤에 기존 토큰을 막는다. 롤백된 변경으로 토큰이 폐기되지 않게 한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSecurityEpochChanged(UserSecurityEpochChangedEvent event) {
+        revokeAllIssuedBefore(event.userId());
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        LongBloomFilter filter = bloomFilter;
+        boolean userHit = filter.mightContain(token.userId());
+        boolean tokenHit = token.tokenId() != null && filter.mightContain(tokenKey(token.tokenId()));
+        if (!userHit && !tokenHit) {
+            return false;
+        }
+
+        if (userHit) {
+            Long cutoff = userCutoffs.get(token.userId());
+            if (cutoff != null && token.issuedAtMillis() < cutoff) {
+                revokedHits.increment();
+                return true;
+            }
+        }
+        if (tokenHit && revokedTokens.containsKey(token.tokenId())) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * 토큰 최대 수명이 지난 항목을 지우고 남은 항목으로 Bloom filter 를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sweep-interval:PT1M}")
+    public synchronized void sweep() {
+        long now = clock.millis();
+        int before = size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        userCutoffs.values().removeIf(cutoff -> cutoff + JwtUtil.TOKEN_TIME <= now);
+        int after = size();
+        if (after == before) {
+            return;
+        }
+
+        // 예상보다 많이 쌓였으면 오탐률이 오르지 않도록 크기를 늘린다
+        LongBloomFilter rebuilt = new LongBloomFilter(Math.max(expectedEntries, after * 2), falsePositiveRate);
+        revokedTokens.keySet().forEach(tokenId -> rebuilt.put(tokenKey(tokenId)));
+        userCutoffs.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        log.info("폐기 토큰 정리: removed={}, remaining={}", before - after, after);
+    }
+
+    int size() {
+        return revokedTokens.size() + userCutoffs.size();
+    }
+
+    private static long tokenKey(String tokenId) {
+        return LongBloomFilter.hash(tokenId) ^ TOKEN_KEY_SALT;
+    }
+}
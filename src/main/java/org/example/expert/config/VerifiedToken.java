@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.util.Date;
+
+/**
+ * 검증을 마친 액세스 토큰에서 인증에 필요한 값만 꺼낸 것.
+ */
+public record VerifiedToken(long userId, String email, UserRole userRole, String tokenId, long securityEpoch,
+                            long issuedAtMillis, long expiresAtMillis) {
+
+    public static VerifiedToken from(Claims claims) {
+        if (claims == null) {
+            return null;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        Number securityEpoch = claims.get("epoch", Number.class);
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.getId(),
+                securityEpoch != null ? securityEpoch.longValue() : 0L,
+                issuedAt != null ? issuedAt.getTime() : 0L,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+    }
+}
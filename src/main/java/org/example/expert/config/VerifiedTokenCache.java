@@ -0,0 +1,126 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 토큰의 claims 를 토큰 만료(exp) 시각까지 보관하는 크기 제한 캐시.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 써서 토큰 문자열을 메모리에 남기지 않는다.
+ * exp 가 지난 항목은 조회 시점에 바로 버리므로 만료된 토큰이 캐시에서 통과되는 일은 없다.
+ * 반환하는 Claims 는 여러 요청이 공유하므로 읽기 전용으로만 써야 한다.
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final int maxSize;
+    private final Map<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private Clock clock = Clock.systemUTC();
+
+    public VerifiedTokenCache(int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("jwt.cache.gets")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.cache.gets")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("jwt.cache.evictions")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 유효한 항목이 있으면 그대로 돌려주고, 없으면 verifier 로 검증한 결과를 캐시한다.
+     * verifier 가 던지는 예외(만료, 서명 오류 등)는 그대로 전달되며 캐시에 남지 않는다.
+     */
+    public Claims getOrVerify(String token, Function<String, Claims> verifier) {
+        TokenDigest digest = TokenDigest.of(token);
+        long now = clock.millis();
+
+        Entry cached = entries.get(digest);
+        if (cached != null) {
+            if (now < cached.expiresAtMillis()) {
+                hits.increment();
+                return cached.claims();
+            }
+            entries.remove(digest, cached);
+        }
+
+        misses.increment();
+        Claims claims = verifier.apply(token);
+        Date expiration = claims.getExpiration();
+        // exp 가 없는 토큰은 언제 버려야 할지 알 수 없으므로 캐시하지 않는다
+        if (expiration != null && now < expiration.getTime()) {
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(digest, new Entry(claims, expiration.getTime()));
+        }
+        return claims;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 10% 여유를 만든다.
+     * 가득 찼을 때만 실행되므로 비용은 삽입 여러 번에 나뉜다.
+     */
+    private void evict(long now) {
+        int target = maxSize - Math.max(1, maxSize / 10);
+        int removed = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (now >= iterator.next().expiresAtMillis()) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        iterator = entries.values().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            removed++;
+        }
+        evictions.increment(removed);
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+
+    private record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            MessageDigest sha256 = SHA_256.get();
+            ByteBuffer digest = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -25,12 +23,6 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(adminAccessInterceptor)
-                .addPathPatterns("/admin/users/**");
-    }
-
-    // TODO-6
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+                .addPathPatterns("/admin/**");
     }
 }
@@ -1,5 +1,6 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -9,6 +10,7 @@ import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,8 +24,14 @@ public class AuthController {
         return authService.signup(signupRequest);
     }
 
+    // 프록시 뒤에서는 server.forward-headers-strategy 로 믿을 수 있는 프록시가 보낸 X-Forwarded-For 가 remoteAddr 이 된다
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        return authService.signin(signinRequest, request.getRemoteAddr());
+    }
+
+    @PostMapping("/auth/logout")
+    public void logout(@RequestHeader("Authorization") String bearerToken) {
+        authService.logout(bearerToken);
     }
 }
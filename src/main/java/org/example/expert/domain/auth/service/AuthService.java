@@ -1,8 +1,13 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ErrorMessage;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.RegisteredEmailFilter;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.config.VerifiedToken;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -12,23 +17,30 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String DUPLICATE_EMAIL_MESSAGE = "이미 존재하는 이메일입니다.";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final SigninThrottle signinThrottle;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     // TODO-2-1
-    @Transactional
+    // 해시는 해시 스레드를 기다리므로 트랜잭션을 열지 않는다. 조회와 저장은 각자 짧은 트랜잭션에서 돈다
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // Bloom filter 가 확실히 없다고 하면 DB 조회를 건너뛴다
+        if (registeredEmailFilter.mightExist(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
+            throw new InvalidRequestException(DUPLICATE_EMAIL_MESSAGE);
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -40,25 +52,61 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스에서 먼저 가입했거나 동시에 같은 이메일로 가입한 경우
+            throw new InvalidRequestException(DUPLICATE_EMAIL_MESSAGE);
+        }
+        registeredEmailFilter.add(savedUser.getEmail());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getSecurityEpoch());
 
         return new SignupResponse(bearerToken);
     }
 
-    @Transactional(readOnly = true)
-    public SigninResponse signin(SigninRequest signinRequest) {
+    // 비밀번호 검증은 해시 스레드를 기다리므로 그동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 한다
+    public SigninResponse signin(SigninRequest signinRequest, String clientIp) {
+        // 시도 횟수를 넘은 요청은 DB 조회와 bcrypt 없이 거절한다
+        signinThrottle.acquire(signinRequest.getEmail(), clientIp);
+
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
+            throw new AuthException(ErrorMessage.WRONG_PASSWORD.message());
         }
+        signinThrottle.onSuccess(signinRequest.getEmail(), clientIp);
+        // 지금 설정과 다른 cost 로 저장된 해시는 응답을 기다리게 하지 않고 다시 해시해 둔다
+        Long userId = user.getId();
+        String encodedPassword = user.getPassword();
+        passwordEncoder.rehashInBackground(signinRequest.getPassword(), encodedPassword,
+                rehashed -> userRepository.updatePasswordIfUnchanged(userId, encodedPassword, rehashed));
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getSecurityEpoch());
 
         return new SigninResponse(bearerToken);
     }
+
+    public void logout(String bearerToken) {
+        VerifiedToken token;
+        try {
+            token = jwtUtil.verifyToken(jwtUtil.substringToken(bearerToken));
+        } catch (JwtException e) {
+            // 이미 만료되었거나 잘못된 토큰은 막을 필요가 없다
+            return;
+        }
+        if (token == null) {
+            return;
+        }
+
+        if (token.tokenId() != null) {
+            tokenRevocationList.revokeToken(token.tokenId(), token.expiresAtMillis());
+        } else {
+            // jti 가 없는 이전 형식의 토큰은 따로 막을 수 없으므로 사용자의 기존 토큰을 모두 막는다
+            tokenRevocationList.revokeAllIssuedBefore(token.userId());
+        }
+    }
 }
@@ -0,0 +1,191 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.ErrorMessage;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도 제한. bcrypt 검증 전에 이메일별 / 클라이언트 IP 별 토큰 버킷에서 한 개씩 꺼내고, 없으면 해시 없이 429 로 거절한다.
+ * 틀린 비밀번호만 계속 보내는 요청으로 CPU 를 다 쓰게 만들 수 없도록, 실패한 bcrypt 횟수를 IP 마다 capacity + 시간당 보충량으로 묶는다.
+ * 성공한 로그인은 두 버킷 모두 돌려받으므로 NAT 뒤의 정상 사용자끼리 서로 막지 않는다.
+ * <p>
+ * 버킷은 "가득 차는 시각" long 하나(GCRA) 를 CAS 로만 바꾸므로 락이 없다.
+ * 가득 찬 버킷은 지워도 잃는 정보가 없으므로 sweep 에서 지운다. max-entries 에 닿으면 가득 찬 버킷을 그 자리에서 먼저 지우고,
+ * 그래도 자리가 없으면(모두 최근에 시도한 키) 새 키는 세지 않고 통과시키는 대신 거절한다.
+ * <p>
+ * 인스턴스 메모리에만 있으므로 여러 대로 띄우면 인스턴스마다 따로 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SigninThrottle {
+
+    private static final long EVICTION_INTERVAL_MILLIS = 1_000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.signin-throttle.account.capacity:5}")
+    private int accountCapacity = 5;
+    @Value("${auth.signin-throttle.account.refill-interval:PT12S}")
+    private Duration accountRefillInterval = Duration.ofSeconds(12);
+    @Value("${auth.signin-throttle.ip.capacity:20}")
+    private int ipCapacity = 20;
+    @Value("${auth.signin-throttle.ip.refill-interval:PT1S}")
+    private Duration ipRefillInterval = Duration.ofSeconds(1);
+    @Value("${auth.signin-throttle.max-entries:100000}")
+    private int maxEntries = 100_000;
+
+    private final Map<String, Bucket> accountBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> ipBuckets = new ConcurrentHashMap<>();
+    // max-entries 에 닿았을 때 하는 정리는 O(n) 이므로 이 간격보다 자주 하지 않는다
+    private final AtomicLong lastEvictionMillis = new AtomicLong();
+    private Clock clock = Clock.systemUTC();
+
+    private Limit accountLimit;
+    private Limit ipLimit;
+    private Counter throttledAccount;
+    private Counter throttledIp;
+    private Counter overflow;
+
+    @PostConstruct
+    public void init() {
+        accountLimit = new Limit(accountCapacity, accountRefillInterval);
+        ipLimit = new Limit(ipCapacity, ipRefillInterval);
+        throttledAccount = meterRegistry.counter("auth.signin.throttled", "key", "account");
+        throttledIp = meterRegistry.counter("auth.signin.throttled", "key", "ip");
+        overflow = meterRegistry.counter("auth.signin.throttle.overflow");
+        Gauge.builder("auth.signin.throttle.buckets", this, SigninThrottle::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 한 번을 차감한다. IP 나 계정 버킷이 비어 있으면 TooManyRequestsException.
+     */
+    public void acquire(String email, String clientIp) {
+        long now = clock.millis();
+        if (!tryAcquire(ipBuckets, clientIp, ipLimit, now)) {
+            throttledIp.increment();
+            throw new TooManyRequestsException(ErrorMessage.SIGNIN_THROTTLED.message());
+        }
+        if (!tryAcquire(accountBuckets, accountKey(email), accountLimit, now)) {
+            throttledAccount.increment();
+            throw new TooManyRequestsException(ErrorMessage.SIGNIN_THROTTLED.message());
+        }
+    }
+
+    /**
+     * 로그인에 성공하면 계정 / IP 버킷에서 꺼낸 토큰을 돌려준다. 둘 다 실패한 시도만 센다.
+     * 같은 NAT / 프록시 뒤의 정상 사용자가 함께 로그인해도 IP 제한에 걸리지 않게 한다.
+     */
+    public void onSuccess(String email, String clientIp) {
+        long now = clock.millis();
+        refund(accountBuckets, accountKey(email), accountLimit, now);
+        refund(ipBuckets, clientIp, ipLimit, now);
+    }
+
+    /**
+     * 다시 가득 찬(한동안 시도가 없던) 버킷을 지운다.
+     */
+    @Scheduled(fixedDelayString = "${auth.signin-throttle.sweep-interval:PT1M}")
+    public void sweep() {
+        long now = clock.millis();
+        int before = size();
+        accountBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        int after = size();
+        if (after != before) {
+            log.debug("로그인 시도 버킷 정리: removed={}, remaining={}", before - after, after);
+        }
+    }
+
+    int size() {
+        return accountBuckets.size() + ipBuckets.size();
+    }
+
+    private boolean tryAcquire(Map<String, Bucket> buckets, String key, Limit limit, long now) {
+        if (key == null) {
+            return true;
+        }
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            // 키를 계속 바꿔 가며 보내는 요청이 제한을 빠져나가지 못하도록 자리가 없으면 거절한다 (fail closed)
+            if (buckets.size() >= maxEntries && !evictFullBuckets(buckets, now)) {
+                overflow.increment();
+                return false;
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket());
+        }
+        return bucket.tryAcquire(limit, now);
+    }
+
+    /**
+     * 가득 찬 버킷을 지워 자리를 만든다. 자리가 생겼으면 true.
+     */
+    private boolean evictFullBuckets(Map<String, Bucket> buckets, long now) {
+        long last = lastEvictionMillis.get();
+        if (now - last >= EVICTION_INTERVAL_MILLIS && lastEvictionMillis.compareAndSet(last, now)) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return buckets.size() < maxEntries;
+    }
+
+    private static void refund(Map<String, Bucket> buckets, String key, Limit limit, long now) {
+        Bucket bucket = key == null ? null : buckets.get(key);
+        if (bucket != null) {
+            bucket.refund(limit, now);
+        }
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Limit(long refillIntervalMillis, long burstMillis) {
+
+        Limit(int capacity, Duration refillInterval) {
+            this(refillInterval.toMillis(), capacity * refillInterval.toMillis());
+        }
+    }
+
+    private static final class Bucket {
+
+        // 버킷이 다시 가득 차는 시각. (fullAt - now) / refillInterval 이 지금 빠져 있는 토큰 수다
+        private final AtomicLong fullAt = new AtomicLong();
+
+        boolean tryAcquire(Limit limit, long now) {
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + limit.refillIntervalMillis();
+                if (next - now > limit.burstMillis()) {
+                    return false;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        void refund(Limit limit, long now) {
+            fullAt.updateAndGet(current -> Math.max(now, current - limit.refillIntervalMillis()));
+        }
+
+        boolean isFull(long now) {
+            return fullAt.get() <= now;
+        }
+    }
+}
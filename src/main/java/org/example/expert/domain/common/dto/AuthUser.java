@@ -6,6 +6,9 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 public class AuthUser {
 
+    // JwtFilter 가 인증한 사용자를 이 키 하나로 request 에 담는다
+    public static final String REQUEST_ATTRIBUTE = AuthUser.class.getName();
+
     private final Long id;
     private final String email;
     private final UserRole userRole;
@@ -0,0 +1,11 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 처리 용량이 가득 차 요청을 받지 않고 바로 거절한 경우 (429).
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
@@ -12,6 +14,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
@@ -26,6 +30,23 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 날씨 조회를 기다리는 동안 Tomcat 요청 스레드를 반환하는 비동기 버전
+    @PostMapping("/todos/async")
+    public CompletableFuture<ResponseEntity<TodoSaveResponse>> saveTodoAsync(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoSaveRequest todoSaveRequest
+    ) {
+        return todoService.saveTodoAsync(authUser, todoSaveRequest).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBulkSaveRequest todoBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBulkSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
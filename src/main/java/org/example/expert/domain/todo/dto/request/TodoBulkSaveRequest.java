@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkSaveRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 1000)
+    private List<TodoSaveRequest> todos;
+}
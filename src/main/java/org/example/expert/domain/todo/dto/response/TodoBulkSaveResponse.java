@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    // 요청한 순서와 같은 순서의 일정 id
+    private final List<Long> ids;
+    private final String weather;
+
+    public TodoBulkSaveResponse(List<Long> ids, String weather) {
+        this.ids = ids;
+        this.weather = weather;
+    }
+}
@@ -14,7 +14,7 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_weather_pending", columnList = "weather_pending, created_at"))
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +22,8 @@ public class Todo extends Timestamped {
     private String title;
     private String contents;
     private String weather;
+    // 날씨를 커밋 이후 비동기로 채워야 하는 일정인지 여부
+    private boolean weatherPending;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -41,6 +43,12 @@ public class Todo extends Timestamped {
         this.managers.add(new Manager(user, this));
     }
 
+    public static Todo withPendingWeather(String title, String contents, String placeholderWeather, User user) {
+        Todo todo = new Todo(title, contents, placeholderWeather, user);
+        todo.weatherPending = true;
+        return todo;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.event;
+
+import java.time.LocalDate;
+
+/**
+ * 날씨가 비어 있는(pending) 일정이 저장되었음을 알리는 이벤트. 커밋 이후에 처리된다.
+ */
+public record TodoCreatedEvent(Long todoId, LocalDate createdDate) {
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 대량 저장용 JDBC 배치 INSERT.
+ * IDENTITY 전략의 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JdbcTemplate 으로 직접 묶는다.
+ * 호출하는 쪽의 트랜잭션에 참여하며, 영속성 컨텍스트를 거치지 않는다.
+ * (MySQL 에서는 rewriteBatchedStatements=true 여야 다중 행 INSERT 로 전송된다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoBulkRepository {
+
+    private static final String INSERT_TODO =
+            "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MANAGER =
+            "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${todo.bulk.jdbc-batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * 일정을 배치로 저장하고 생성된 id 를 요청 순서대로 반환한다.
+     */
+    public List<Long> insertTodos(List<TodoSaveRequest> requests, String weather, boolean weatherPending,
+                                  Long userId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += batchSize) {
+            List<TodoSaveRequest> chunk = requests.subList(from, Math.min(from + batchSize, requests.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_TODO, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            TodoSaveRequest request = chunk.get(i);
+                            ps.setString(1, request.getTitle());
+                            ps.setString(2, request.getContents());
+                            ps.setString(3, weather);
+                            ps.setBoolean(4, weatherPending);
+                            ps.setLong(5, userId);
+                            ps.setTimestamp(6, timestamp);
+                            ps.setTimestamp(7, timestamp);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder
+            );
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 각 일정의 작성자를 담당자로 등록한다. Todo 생성자가 cascade 로 만드는 Manager 와 같은 행이다.
+     */
+    public void insertOwnerManagers(List<Long> todoIds, Long userId) {
+        jdbcTemplate.batchUpdate(INSERT_MANAGER, todoIds, batchSize, (ps, todoId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, todoId);
+        });
+    }
+}
@@ -5,9 +5,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -22,4 +26,16 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.weatherPending = false " +
+            "WHERE t.id IN :todoIds AND t.weatherPending = true")
+    int fillPendingWeather(@Param("todoIds") Collection<Long> todoIds, @Param("weather") String weather);
+
+    @Query("SELECT t FROM Todo t " +
+            "WHERE t.weatherPending = true AND t.createdAt < :createdBefore AND t.id > :afterId " +
+            "ORDER BY t.id")
+    List<Todo> findPendingWeather(@Param("createdBefore") LocalDateTime createdBefore,
+                                  @Param("afterId") long afterId,
+                                  Pageable pageable);
 }
@@ -1,48 +1,170 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.ReactiveWeatherClient;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.client.exception.WeatherUnavailableException;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
     private final TodoRepository todoRepository;
+    private final TodoBulkRepository todoBulkRepository;
     private final WeatherClient weatherClient;
+    private final ReactiveWeatherClient reactiveWeatherClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // true 이면 트랜잭션 안에서 날씨 API 를 호출하지 않고 커밋 이후 TodoWeatherEnricher 가 채운다
+    @Value("${weather.enrichment.async:false}")
+    private boolean asyncWeatherEnrichment;
+    // 날씨 서킷이 열려 있을 때 우선 저장해 두는 값. pending 으로 표시되어 sweep 이 나중에 채운다
+    @Value("${weather.circuit-breaker.fallback-weather:Unknown}")
+    private String fallbackWeather = "Unknown";
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        if (asyncWeatherEnrichment) {
+            return toSaveResponse(saveTodoWithPendingWeather(user, todoSaveRequest, null), user);
+        }
+
+        String weather;
+        try {
+            weather = weatherClient.getTodayWeather();
+        } catch (WeatherUnavailableException e) {
+            log.warn("날씨 API 차단 상태, 대체값으로 저장 후 백필합니다: userId={}", user.getId());
+            return toSaveResponse(saveTodoWithPendingWeather(user, todoSaveRequest, fallbackWeather), user);
+        }
+
+        return toSaveResponse(saveTodoWithWeather(user, todoSaveRequest, weather), user);
+    }
+
+    /**
+     * 날씨 조회를 논블로킹으로 기다린 뒤 저장한다. upstream 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
+     * JPA 저장은 블로킹이므로 이벤트 루프가 아닌 boundedElastic 스케줄러에서 트랜잭션을 연다.
+     */
+    public CompletableFuture<TodoSaveResponse> saveTodoAsync(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        if (asyncWeatherEnrichment) {
+            // 날씨를 기다리지 않는 모드라면 요청 스레드에서 바로 저장해도 된다
+            return CompletableFuture.completedFuture(
+                    transactionTemplate.execute(status -> saveTodo(authUser, todoSaveRequest)));
+        }
+
+        User user = User.fromAuthUser(authUser);
+        return reactiveWeatherClient.getTodayWeather()
+                .map(Optional::of)
+                .onErrorResume(WeatherUnavailableException.class, e -> {
+                    log.warn("날씨 API 차단 상태, 대체값으로 저장 후 백필합니다: userId={}", user.getId());
+                    return Mono.just(Optional.empty());
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .map(weather -> transactionTemplate.execute(status -> weather
+                        .map(value -> saveTodoWithWeather(user, todoSaveRequest, value))
+                        .orElseGet(() -> saveTodoWithPendingWeather(user, todoSaveRequest, fallbackWeather))))
+                .map(savedTodo -> toSaveResponse(savedTodo, user))
+                .toFuture();
+    }
+
+    /**
+     * 여러 일정을 한 트랜잭션에서 저장한다. 날씨는 한 번만 조회하고, 일정과 작성자 담당자는 JDBC 배치로 INSERT 한다.
+     * 날씨 조회는 트랜잭션을 열기 전에 끝내서 upstream 을 기다리는 동안 커넥션을 잡지 않는다.
+     * 반환하는 id 는 요청 순서를 따른다.
+     */
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = null;
+        boolean weatherPending = true;
+        if (!asyncWeatherEnrichment) {
+            try {
+                weather = weatherClient.getTodayWeather();
+                weatherPending = false;
+            } catch (WeatherUnavailableException e) {
+                log.warn("날씨 API 차단 상태, 대체값으로 저장 후 백필합니다: userId={}", user.getId());
+                weather = fallbackWeather;
+            }
+        }
 
+        String resolvedWeather = weather;
+        boolean resolvedPending = weatherPending;
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> insertedIds = todoBulkRepository.insertTodos(
+                    todoBulkSaveRequest.getTodos(), resolvedWeather, resolvedPending, user.getId(), LocalDateTime.now());
+            todoBulkRepository.insertOwnerManagers(insertedIds, user.getId());
+
+            if (resolvedPending) {
+                LocalDate today = LocalDate.now();
+                insertedIds.forEach(id -> eventPublisher.publishEvent(new TodoCreatedEvent(id, today)));
+            }
+            return insertedIds;
+        });
+        return new TodoBulkSaveResponse(ids, weather);
+    }
+
+    private Todo saveTodoWithWeather(User user, TodoSaveRequest todoSaveRequest, String weather) {
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
                 weather,
                 user
         );
-        Todo savedTodo = todoRepository.save(newTodo);
+        return todoRepository.save(newTodo);
+    }
 
+    /**
+     * 날씨를 나중에 채울 일정으로 저장하고, 커밋 이후 TodoWeatherEnricher 에 알린다.
+     */
+    private Todo saveTodoWithPendingWeather(User user, TodoSaveRequest todoSaveRequest, String placeholderWeather) {
+        Todo savedTodo = todoRepository.save(Todo.withPendingWeather(
+                todoSaveRequest.getTitle(),
+                todoSaveRequest.getContents(),
+                placeholderWeather,
+                user
+        ));
+        eventPublisher.publishEvent(new TodoCreatedEvent(savedTodo.getId(), LocalDate.now()));
+        return savedTodo;
+    }
+
+    private TodoSaveResponse toSaveResponse(Todo savedTodo, User user) {
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
-                weather,
+                savedTodo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
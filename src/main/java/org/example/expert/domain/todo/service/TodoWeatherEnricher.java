@@ -0,0 +1,192 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날씨가 pending 상태로 저장된 일정을 커밋 이후에 모아서 채운다.
+ * 같은 윈도우에 들어온 일정은 날짜별로 묶어 날씨 조회 한 번, UPDATE 한 번으로 처리한다.
+ * 큐가 가득 차거나 조회에 실패한 일정은 pending 으로 남고 주기적인 sweep 이 다시 채운다.
+ * <p>
+ * weather.enrichment.async 가 꺼져 있으면 큐와 작업 스레드를 만들지 않는다.
+ * 동기 모드에서도 서킷이 열려 대체값으로 저장한 일정은 pending 으로 남으므로 sweep 이 필요하지만,
+ * 지난 sweep 이 모두 채웠고 그 뒤로 pending 일정이 저장되지 않았다면 조회하지 않고 건너뛴다.
+ * <p>
+ * sweep 은 id 커서로 페이지를 넘긴다. 계속 실패하는 일정이 첫 페이지를 차지해 뒤의 일정이 밀리는 일을 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${weather.enrichment.async:false}")
+    private boolean async;
+    @Value("${weather.enrichment.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+    @Value("${weather.enrichment.batch-size:500}")
+    private int batchSize = 500;
+    @Value("${weather.enrichment.batch-window:PT0.2S}")
+    private Duration batchWindow = Duration.ofMillis(200);
+    @Value("${weather.enrichment.sweep-interval:PT1M}")
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private BlockingQueue<PendingWeather> queue;
+    private Thread worker;
+
+    // 다음 sweep 이 읽을 페이지의 시작 id (이 값보다 큰 id 부터)
+    private long sweepCursor;
+    // 마지막 sweep 이 pending 일정을 남김없이 채웠는지. 재시작 전에 남은 일정이 있을 수 있으므로 false 로 시작한다
+    private boolean sweptClean;
+    // 마지막 sweep 이 조회한 createdAt 상한
+    private LocalDateTime sweptUpTo = LocalDateTime.MIN;
+    // 동기 모드에서 마지막으로 pending 일정이 커밋된 시각
+    private volatile LocalDateTime lastPendingStoredAt = LocalDateTime.MIN;
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        worker = new Thread(this::run, "todo-weather-enricher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoCreated(TodoCreatedEvent event) {
+        if (queue == null) {
+            // 동기 모드에서는 서킷이 열려 대체값으로 저장한 경우만 이벤트가 온다. sweep 이 채운다
+            lastPendingStoredAt = LocalDateTime.now();
+            return;
+        }
+        if (!queue.offer(new PendingWeather(event.todoId(), event.createdDate()))) {
+            log.warn("날씨 보강 큐가 가득 차 sweep 대상으로 남깁니다: todoId={}", event.todoId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${weather.enrichment.sweep-interval:PT1M}")
+    public void sweepPending() {
+        // 방금 저장되어 아직 큐에서 처리 중인 일정은 건너뛴다
+        LocalDateTime createdBefore = LocalDateTime.now().minus(sweepInterval);
+        if (!async && sweptClean && lastPendingStoredAt.isBefore(sweptUpTo)) {
+            return;
+        }
+
+        long after = sweepCursor;
+        List<Todo> todos = todoRepository.findPendingWeather(createdBefore, after, PageRequest.of(0, batchSize));
+        boolean lastPage = todos.size() < batchSize;
+        sweepCursor = lastPage ? 0 : todos.get(todos.size() - 1).getId();
+
+        boolean filled = true;
+        if (!todos.isEmpty()) {
+            List<PendingWeather> batch = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                batch.add(new PendingWeather(todo.getId(), todo.getCreatedAt().toLocalDate()));
+            }
+            log.info("pending 날씨 sweep: count={}, after={}", batch.size(), after);
+            filled = enrich(batch);
+        }
+        sweptClean = after == 0 && lastPage && filled;
+        sweptUpTo = createdBefore;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                enrich(drainBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("날씨 보강 처리 중 오류", e);
+            }
+        }
+    }
+
+    List<PendingWeather> drainBatch() throws InterruptedException {
+        List<PendingWeather> batch = new ArrayList<>();
+        batch.add(queue.take());
+
+        long deadline = System.nanoTime() + batchWindow.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || queue.drainTo(batch, batchSize - batch.size()) == 0 && !pollInto(batch, remaining)) {
+                break;
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 모든 날짜를 채웠으면 true. 실패한 날짜의 일정은 pending 으로 남는다.
+     */
+    boolean enrich(List<PendingWeather> batch) {
+        Map<LocalDate, List<Long>> todoIdsByDate = new LinkedHashMap<>();
+        for (PendingWeather pending : batch) {
+            todoIdsByDate.computeIfAbsent(pending.createdDate(), date -> new ArrayList<>()).add(pending.todoId());
+        }
+
+        boolean filled = true;
+        for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+            LocalDate date = entry.getKey();
+            List<Long> todoIds = entry.getValue();
+            try {
+                String weather = weatherClient.getWeather(date);
+                Integer updated = transactionTemplate.execute(status -> todoRepository.fillPendingWeather(todoIds, weather));
+                log.debug("pending 날씨 보강 완료: date={}, updated={}", date, updated);
+            } catch (RuntimeException e) {
+                filled = false;
+                log.warn("pending 날씨 보강 실패, sweep 에서 재시도합니다: date={}, count={}, cause={}",
+                        date, todoIds.size(), e.getMessage());
+            }
+        }
+        return filled;
+    }
+
+    private boolean pollInto(List<PendingWeather> batch, long timeoutNanos) throws InterruptedException {
+        PendingWeather next = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        if (next == null) {
+            return false;
+        }
+        batch.add(next);
+        return true;
+    }
+
+    record PendingWeather(Long todoId, LocalDate createdDate) {
+    }
+}
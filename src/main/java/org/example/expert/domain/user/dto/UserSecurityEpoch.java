@@ -0,0 +1,4 @@
+package org.example.expert.domain.user.dto;
+
+public record UserSecurityEpoch(Long userId, long securityEpoch) {
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
@@ -20,6 +21,10 @@ public class User extends Timestamped {
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 권한 / 비밀번호가 바뀔 때마다 올라가는 값. 토큰에 담아 이전 토큰을 구분한다
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long securityEpoch;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -39,9 +44,11 @@ public class User extends Timestamped {
 
     public void changePassword(String password) {
         this.password = password;
+        this.securityEpoch++;
     }
 
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
+        this.securityEpoch++;
     }
 }
@@ -2,15 +2,28 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
-
 public enum UserRole {
     ADMIN, USER;
 
+    private static final UserRole[] VALUES = values();
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        // 토큰과 요청에 오는 값은 거의 항상 대문자 이름 그대로이므로 switch 로 바로 찾고,
+        // 대소문자가 다를 때만 배열을 훑는다
+        if (role != null) {
+            switch (role) {
+                case "ADMIN":
+                    return ADMIN;
+                case "USER":
+                    return USER;
+                default:
+                    for (UserRole value : VALUES) {
+                        if (value.name().equalsIgnoreCase(role)) {
+                            return value;
+                        }
+                    }
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
     }
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.event;
+
+/**
+ * 사용자의 권한이나 비밀번호가 바뀌어 securityEpoch 가 올라갔음을 알리는 이벤트. 커밋 이후에 처리된다.
+ */
+public record UserSecurityEpochChangedEvent(long userId, long securityEpoch) {
+}
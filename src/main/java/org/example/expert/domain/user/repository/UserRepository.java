@@ -1,11 +1,45 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.user.dto.UserSecurityEpoch;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 가입 이메일 Bloom filter 적재. 트랜잭션 안에서 읽고 닫아야 한다 (MySQL 은 useCursorFetch=true 여야 fetch size 만큼 나눠 받는다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    // 로그인 후 재해시. 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않고, 같은 비밀번호이므로 securityEpoch 는 올리지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId, @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // securityEpoch 가 0 보다 큰 사용자만 id 순으로 나눠 읽는다 (시작 시 캐시 적재)
+    @Query("select new org.example.expert.domain.user.dto.UserSecurityEpoch(u.id, u.securityEpoch) from User u " +
+            "where u.securityEpoch > 0 and u.id > :afterId order by u.id")
+    List<UserSecurityEpoch> findSecurityEpochs(@Param("afterId") long afterId, Pageable pageable);
+
+    // 다른 인스턴스에서 바뀐 epoch 를 주기적으로 반영
+    @Query("select new org.example.expert.domain.user.dto.UserSecurityEpoch(u.id, u.securityEpoch) from User u " +
+            "where u.securityEpoch > 0 and u.modifiedAt >= :since")
+    List<UserSecurityEpoch> findSecurityEpochsModifiedSince(@Param("since") LocalDateTime since);
 }
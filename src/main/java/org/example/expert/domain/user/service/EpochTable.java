@@ -0,0 +1,105 @@
+package org.example.expert.domain.user.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * userId -> securityEpoch 를 long 배열 두 개에 담는 open addressing 해시 테이블.
+ * 박싱 없이 조회하고, 조회는 락 없이 volatile 읽기만 한다. 쓰기는 드물므로 synchronized 로 직렬화한다.
+ * epoch 는 올라가기만 하므로 put 은 더 큰 값일 때만 반영한다. 키 0 은 빈 칸 표시로 쓴다(id 는 1 부터).
+ * <p>
+ * 채움률을 50% 이하로 유지하므로 항목당 약 32바이트(키 8 + 값 8, 2배 여유) 를 쓴다.
+ */
+final class EpochTable {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private volatile Slots slots = new Slots(MIN_CAPACITY);
+    private int size;
+
+    long get(long userId) {
+        Slots current = slots;
+        int mask = current.mask;
+        int index = spread(userId) & mask;
+        while (true) {
+            long key = current.keys.get(index);
+            if (key == userId) {
+                return current.values.get(index);
+            }
+            if (key == 0) {
+                return 0;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    synchronized void raise(long userId, long epoch) {
+        if (userId <= 0 || epoch <= 0) {
+            return;
+        }
+        Slots current = slots;
+        int index = indexOf(current, userId);
+        if (current.keys.get(index) == userId) {
+            if (current.values.get(index) < epoch) {
+                current.values.set(index, epoch);
+            }
+            return;
+        }
+
+        if ((size + 1) * 2 > current.keys.length()) {
+            current = resize(current);
+            index = indexOf(current, userId);
+        }
+        // 값을 먼저 쓰고 키를 써야 키를 본 읽기 쪽이 값도 본다
+        current.values.set(index, epoch);
+        current.keys.set(index, userId);
+        size++;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private Slots resize(Slots old) {
+        Slots resized = new Slots(old.keys.length() * 2);
+        for (int i = 0; i < old.keys.length(); i++) {
+            long key = old.keys.get(i);
+            if (key != 0) {
+                int index = indexOf(resized, key);
+                resized.values.set(index, old.values.get(i));
+                resized.keys.set(index, key);
+            }
+        }
+        slots = resized;
+        return resized;
+    }
+
+    // 키가 있는 칸 또는 넣을 빈 칸
+    private static int indexOf(Slots slots, long userId) {
+        int index = spread(userId) & slots.mask;
+        while (true) {
+            long key = slots.keys.get(index);
+            if (key == userId || key == 0) {
+                return index;
+            }
+            index = (index + 1) & slots.mask;
+        }
+    }
+
+    private static int spread(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Slots {
+
+        private final AtomicLongArray keys;
+        private final AtomicLongArray values;
+        private final int mask;
+
+        Slots(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicLongArray(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserSecurityEpoch;
+import org.example.expert.domain.user.event.UserSecurityEpochChangedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 최신 securityEpoch 를 메모리에 두고 JwtFilter 가 요청마다 DB 없이 비교하게 한다.
+ * 토큰의 epoch 가 여기 값보다 작으면 권한 / 비밀번호 변경 이전에 발급된 토큰이다.
+ * <p>
+ * 시작할 때 epoch 가 있는 사용자를 모두 읽고, 이 인스턴스의 변경은 커밋 직후 바로,
+ * 다른 인스턴스의 변경은 refresh-interval 마다 modifiedAt 으로 찾아 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSecurityEpochCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.epoch.warm-up-batch-size:1000}")
+    private int warmUpBatchSize = 1000;
+    @Value("${jwt.epoch.refresh-interval:PT10S}")
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    private final EpochTable epochs = new EpochTable();
+    private volatile LocalDateTime lastRefreshedAt;
+
+    public long currentEpoch(long userId) {
+        return epochs.get(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEpochChanged(UserSecurityEpochChangedEvent event) {
+        epochs.raise(event.userId(), event.securityEpoch());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        lastRefreshedAt = LocalDateTime.now();
+        long afterId = 0;
+        while (true) {
+            List<UserSecurityEpoch> batch = userRepository.findSecurityEpochs(afterId, PageRequest.of(0, warmUpBatchSize));
+            batch.forEach(this::apply);
+            if (batch.size() < warmUpBatchSize) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).userId();
+        }
+        log.info("사용자 securityEpoch 적재: count={}", epochs.size());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.epoch.refresh-interval:PT10S}", initialDelayString = "${jwt.epoch.refresh-interval:PT10S}")
+    public void refresh() {
+        // 인스턴스 간 시계 차이와 커밋 지연을 감안해 한 주기만큼 겹쳐 읽는다
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRefreshedAt != null ? lastRefreshedAt.minus(refreshInterval) : now.minus(refreshInterval);
+        userRepository.findSecurityEpochsModifiedSince(since).forEach(this::apply);
+        lastRefreshedAt = now;
+    }
+
+    private void apply(UserSecurityEpoch epoch) {
+        epochs.raise(epoch.userId(), epoch.securityEpoch());
+    }
+}
@@ -6,9 +6,12 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.event.UserSecurityEpochChangedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +19,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
@@ -23,7 +28,7 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // 비밀번호 검증 / 해시는 해시 스레드를 기다리므로 트랜잭션 밖에서 하고, 저장만 짧은 트랜잭션으로 한다
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         // TODO-2-3
         // 값을 정합성과 무결성을 판별하는 검사는 시스템 장애를 최소화하는 중요한 역할
@@ -52,6 +57,20 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String verifiedPassword = user.getPassword();
+        String encodedPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+
+        transactionTemplate.execute(status -> {
+            User current = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidRequestException("User not found"));
+            // 검증하는 동안 다른 요청이 비밀번호를 바꿨으면 검증 결과를 믿을 수 없다
+            if (!verifiedPassword.equals(current.getPassword())) {
+                throw new InvalidRequestException("비밀번호가 변경되었습니다. 다시 시도해 주세요.");
+            }
+            current.changePassword(encodedPassword);
+            // 이전 비밀번호로 받은 토큰은 커밋 이후 더 이상 쓰지 못하게 한다
+            eventPublisher.publishEvent(new UserSecurityEpochChangedEvent(userId, current.getSecurityEpoch()));
+            return null;
+        });
     }
 }
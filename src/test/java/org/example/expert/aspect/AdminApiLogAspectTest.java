@@ -2,6 +2,9 @@ package org.example.expert.aspect;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.example.expert.config.RoutePolicy;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,7 +43,9 @@ class AdminApiLogAspectTest {
         String requestUri = "/admin/users";
         Object expectedResult = "result";
 
-        given(request.getAttribute("userId")).willReturn(userId);
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUDITED);
+
+        given(request.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(new AuthUser(userId, "admin@test.com", UserRole.ADMIN));
         given(request.getRequestURI()).willReturn(requestUri);
         given(joinPoint.proceed()).willReturn(expectedResult);
 
@@ -50,17 +55,19 @@ class AdminApiLogAspectTest {
         // then
         assertEquals(expectedResult, result);
         verify(joinPoint).proceed();
-        verify(request).getAttribute("userId");
+        verify(request).getAttribute(AuthUser.REQUEST_ATTRIBUTE);
         verify(request).getRequestURI();
     }
 
     @Test
-    void userId가_null인_경우에도_로그를_기록하고_메서드를_실행한다() throws Throwable {
+    void AuthUser가_없는_경우에도_로그를_기록하고_메서드를_실행한다() throws Throwable {
         // given
         String requestUri = "/admin/users";
         Object expectedResult = "result";
 
-        given(request.getAttribute("userId")).willReturn(null);
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUDITED);
+
+        given(request.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(null);
         given(request.getRequestURI()).willReturn(requestUri);
         given(joinPoint.proceed()).willReturn(expectedResult);
 
@@ -70,7 +77,7 @@ class AdminApiLogAspectTest {
         // then
         assertEquals(expectedResult, result);
         verify(joinPoint).proceed();
-        verify(request).getAttribute("userId");
+        verify(request).getAttribute(AuthUser.REQUEST_ATTRIBUTE);
         verify(request).getRequestURI();
     }
 
@@ -81,7 +88,9 @@ class AdminApiLogAspectTest {
         String requestUri = "/admin/comments";
         Object expectedResult = "deleted";
 
-        given(request.getAttribute("userId")).willReturn(userId);
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUDITED);
+
+        given(request.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(new AuthUser(userId, "admin@test.com", UserRole.ADMIN));
         given(request.getRequestURI()).willReturn(requestUri);
         given(joinPoint.proceed()).willReturn(expectedResult);
 
@@ -91,7 +100,7 @@ class AdminApiLogAspectTest {
         // then
         assertEquals(expectedResult, result);
         verify(joinPoint).proceed();
-        verify(request).getAttribute("userId");
+        verify(request).getAttribute(AuthUser.REQUEST_ATTRIBUTE);
         verify(request).getRequestURI();
     }
 
@@ -102,7 +111,9 @@ class AdminApiLogAspectTest {
         String requestUri = "/admin/users";
         RuntimeException expectedException = new RuntimeException("Test exception");
 
-        given(request.getAttribute("userId")).willReturn(userId);
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUDITED);
+
+        given(request.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(new AuthUser(userId, "admin@test.com", UserRole.ADMIN));
         given(request.getRequestURI()).willReturn(requestUri);
         given(joinPoint.proceed()).willThrow(expectedException);
 
@@ -114,7 +125,21 @@ class AdminApiLogAspectTest {
         }
 
         verify(joinPoint).proceed();
-        verify(request).getAttribute("userId");
+        verify(request).getAttribute(AuthUser.REQUEST_ATTRIBUTE);
         verify(request).getRequestURI();
     }
+
+    @Test
+    void 감사_대상이_아닌_경로_정책이면_로그_없이_메서드를_실행한다() throws Throwable {
+        // given
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.ADMIN);
+        given(joinPoint.proceed()).willReturn("result");
+
+        // when
+        Object result = adminApiLogAspect.logAdminApi(joinPoint);
+
+        // then
+        assertEquals("result", result);
+        verify(request, never()).getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+    }
 }
@@ -0,0 +1,148 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.CircuitBreaker.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker.Settings settings =
+                new CircuitBreaker.Settings(10, 4, 50f, 80f, Duration.ofSeconds(1), Duration.ofSeconds(30), 2);
+        circuitBreaker = new CircuitBreaker("weather", settings, meterRegistry);
+        now = Instant.parse("2024-03-10T00:00:00Z");
+        setClock();
+    }
+
+    @Test
+    void 최소_호출_수_미만이면_실패해도_열리지_않는다() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onError(FAST);
+        }
+
+        // then
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void 실패율이_임계치를_넘으면_열리고_호출을_차단한다() {
+        // given
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onError(FAST);
+
+        // when
+        circuitBreaker.onError(FAST);
+
+        // then
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(2.0, meterRegistry.get("circuitbreaker.calls.short-circuited").counter().count());
+        assertEquals(1.0, meterRegistry.get("circuitbreaker.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("circuitbreaker.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+    }
+
+    @Test
+    void 느린_호출_비율이_임계치를_넘으면_열린다() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onSuccess(SLOW);
+        }
+
+        // then
+        assertEquals(State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void 윈도우에_남은_최근_결과로만_실패율을_계산한다() {
+        // given
+        CircuitBreaker.Settings settings =
+                new CircuitBreaker.Settings(4, 4, 60f, 100f, Duration.ofSeconds(1), Duration.ofSeconds(30), 2);
+        CircuitBreaker smallWindow = new CircuitBreaker("small", settings, meterRegistry);
+        smallWindow.onError(FAST);
+        smallWindow.onError(FAST);
+        smallWindow.onSuccess(FAST);
+        smallWindow.onSuccess(FAST);
+        smallWindow.onSuccess(FAST);
+        smallWindow.onSuccess(FAST);
+        smallWindow.onError(FAST);
+        smallWindow.onError(FAST);
+        // 누적 기준으로는 4/8 = 50% 이지만 최근 4건 기준 2/4 = 50%
+        assertEquals(State.CLOSED, smallWindow.getState());
+
+        // when
+        smallWindow.onError(FAST);
+
+        // then (누적 5/9 = 55% 였다면 닫혀 있어야 하지만 최근 4건 3/4 = 75% 이므로 열린다)
+        assertEquals(State.OPEN, smallWindow.getState());
+    }
+
+    @Test
+    void 대기_시간이_지나면_half_open_에서_시험_호출_후_닫힌다() {
+        // given
+        openCircuit();
+        now = now.plusSeconds(31);
+        setClock();
+
+        // when
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        // then
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void half_open_에서_실패하면_다시_열린다() {
+        // given
+        openCircuit();
+        now = now.plusSeconds(31);
+        setClock();
+
+        // when
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onError(FAST);
+
+        // then
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onError(FAST);
+        }
+        assertEquals(State.OPEN, circuitBreaker.getState());
+    }
+
+    private void setClock() {
+        ReflectionTestUtils.setField(circuitBreaker, "clock", Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.exception.WeatherUnavailableException;
+import org.example.expert.config.HttpClientConfig;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveWeatherClientTest {
+
+    private HttpServer stubServer;
+    private final AtomicInteger upstreamHits = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String body = "[{\"date\":\"03-10\",\"weather\":\"Sunny\"},{\"date\":\"12-25\",\"weather\":\"Snowy\"}]";
+    private volatile long delayMillis;
+
+    private CircuitBreaker circuitBreaker;
+    private WeatherClient blockingClient;
+    private ReactiveWeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/weather.json", exchange -> {
+            upstreamHits.incrementAndGet();
+            sleep(delayMillis);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+
+        String weatherApiUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/weather.json";
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(LocalDateTime.of(2024, 3, 10, 12, 0).atZone(zone).toInstant(), zone);
+        HttpClientConfig config = new HttpClientConfig();
+        circuitBreaker = new CircuitBreaker("weather", CircuitBreaker.Settings.defaults(), new SimpleMeterRegistry());
+
+        blockingClient = new WeatherClient(
+                config.restTemplate(config.weatherHttpClient(config.weatherConnectionManager())),
+                circuitBreaker,
+                new RequestHedger("weather", RequestHedger.Settings.disabled(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(blockingClient, "weatherApiUrl", weatherApiUrl);
+        ReflectionTestUtils.setField(blockingClient, "clock", clock);
+
+        weatherClient = new ReactiveWeatherClient(config.weatherWebClient(), circuitBreaker, blockingClient);
+        ReflectionTestUtils.setField(weatherClient, "weatherApiUrl", weatherApiUrl);
+        ReflectionTestUtils.setField(weatherClient, "clock", clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingClient.shutdown();
+        stubServer.stop(0);
+    }
+
+    @Test
+    void 오늘_날씨를_논블로킹으로_조회한다() {
+        // when
+        String weather = weatherClient.getTodayWeather().block(Duration.ofSeconds(5));
+
+        // then
+        assertEquals("Sunny", weather);
+    }
+
+    @Test
+    void 동시에_들어온_조회는_하나의_요청을_공유하고_결과는_캐시된다() {
+        // given
+        delayMillis = 200;
+
+        // when
+        List<String> weathers = Flux.range(0, 16)
+                .flatMap(i -> weatherClient.getTodayWeather())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+        String christmas = weatherClient.getWeather(LocalDate.of(2023, 12, 25)).block(Duration.ofSeconds(5));
+
+        // then
+        assertEquals(16, weathers.size());
+        assertTrue(weathers.stream().allMatch("Sunny"::equals));
+        assertEquals("Snowy", christmas);
+        assertEquals(1, upstreamHits.get());
+    }
+
+    @Test
+    void 캐시가_비어_있으면_weather_fetch_스레드_없이_WebClient로_조회한다() {
+        // given
+        ReflectionTestUtils.setField(blockingClient, "fetchExecutor", (Executor) runnable -> {
+            throw new RejectedExecutionException("weather-fetch 스레드를 쓰면 안 된다");
+        });
+
+        // when
+        String weather = weatherClient.getTodayWeather().block(Duration.ofSeconds(5));
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals("Sunny", blockingClient.getTodayWeather());
+        assertEquals(1, upstreamHits.get());
+    }
+
+    @Test
+    void 블로킹_클라이언트와_같은_캐시를_쓴다() {
+        // given
+        assertEquals("Sunny", blockingClient.getTodayWeather());
+
+        // when
+        String weather = weatherClient.getTodayWeather().block(Duration.ofSeconds(5));
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(1, upstreamHits.get());
+    }
+
+    @Test
+    void 응답_상태가_OK가_아니면_예외가_발생하고_캐시하지_않는다() {
+        // given
+        status = 500;
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () ->
+                weatherClient.getTodayWeather().block(Duration.ofSeconds(5)));
+        assertTrue(exception.getMessage().startsWith("날씨 데이터를 가져오는데 실패했습니다."));
+
+        status = 200;
+        assertEquals("Sunny", weatherClient.getTodayWeather().block(Duration.ofSeconds(5)));
+        assertEquals(2, upstreamHits.get());
+    }
+
+    @Test
+    void 응답_바디가_비어있으면_예외가_발생한다() {
+        // given
+        body = "[]";
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () ->
+                weatherClient.getTodayWeather().block(Duration.ofSeconds(5)));
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 전체_타임아웃을_넘기면_예외가_발생한다() {
+        // given
+        delayMillis = 1_000;
+        ReflectionTestUtils.setField(blockingClient, "totalTimeout", Duration.ofMillis(100));
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () ->
+                weatherClient.getTodayWeather().block(Duration.ofSeconds(5)));
+        assertEquals("날씨 API 응답 시간이 초과되었습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 서킷이_열리면_upstream을_호출하지_않는다() {
+        // given
+        status = 500;
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ServerException.class, () -> weatherClient.getTodayWeather().block(Duration.ofSeconds(5)));
+        }
+
+        // when & then
+        assertThrows(WeatherUnavailableException.class, () ->
+                weatherClient.getTodayWeather().block(Duration.ofSeconds(5)));
+        assertEquals(5, upstreamHits.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hedger = hedger(new RequestHedger.Settings(true, Duration.ofMillis(50), 4, 10f, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void 헤징이_꺼져_있으면_호출_스레드에서_한_번만_실행한다() {
+        // given
+        RequestHedger disabled = hedger(RequestHedger.Settings.disabled());
+        Thread caller = Thread.currentThread();
+
+        // when
+        Thread executed = disabled.execute(Thread::currentThread);
+
+        // then
+        assertSame(caller, executed);
+        assertEquals(0, count("hedge.requests.sent"));
+    }
+
+    @Test
+    void 지연_안에_응답하면_헤지_요청을_보내지_않는다() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedger.execute(() -> {
+            calls.incrementAndGet();
+            return "Sunny";
+        });
+
+        // then
+        assertEquals("Sunny", result);
+        assertEquals(1, calls.get());
+        assertEquals(0, count("hedge.requests.sent"));
+    }
+
+    @Test
+    void 느린_1차_요청은_헤지_요청의_응답으로_대체되고_취소된다() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+        Supplier<String> request = () -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                }
+                return "Slow";
+            }
+            return "Fast";
+        };
+
+        // when
+        String result = hedger.execute(request);
+
+        // then
+        assertEquals("Fast", result);
+        assertEquals(2, calls.get());
+        assertEquals(1, count("hedge.requests.sent"));
+        assertEquals(1, count("hedge.requests.won"));
+        assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 헤지_예산이_없으면_1차_요청을_끝까지_기다린다() {
+        // given
+        Supplier<String> slow = () -> {
+            sleep(100);
+            return "Slow";
+        };
+        hedger.execute(slow);
+
+        // when
+        String result = hedger.execute(slow);
+
+        // then
+        assertEquals("Slow", result);
+        assertEquals(1, count("hedge.requests.sent"));
+        assertEquals(1, count("hedge.requests.throttled"));
+    }
+
+    @Test
+    void 두_요청이_모두_실패하면_예외를_전달한다() {
+        // given
+        RestClientException failure = new RestClientException("connection reset");
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        RestClientException exception = assertThrows(RestClientException.class, () -> hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(100);
+            }
+            throw failure;
+        }));
+        assertSame(failure, exception);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void 스레드가_모두_바쁘면_호출_스레드에서_헤징_없이_실행한다() throws InterruptedException {
+        // given
+        RequestHedger single = hedger(new RequestHedger.Settings(true, Duration.ofMillis(50), 1, 100f, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread busy = new Thread(() -> single.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Slow";
+        }));
+        busy.start();
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        Thread caller = Thread.currentThread();
+
+        try {
+            // when
+            Thread executed = single.execute(Thread::currentThread);
+
+            // then
+            assertSame(caller, executed);
+        } finally {
+            release.countDown();
+            busy.join(1_000);
+            single.shutdown();
+        }
+    }
+
+    private RequestHedger hedger(RequestHedger.Settings settings) {
+        return new RequestHedger("weather", settings, meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "name", "weather").count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,38 +1,62 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.client.exception.WeatherUnavailableException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class WeatherClientTest {
 
     @Mock
     private RestTemplate restTemplate;
-    @InjectMocks
+    private CircuitBreaker circuitBreaker;
     private WeatherClient weatherClient;
 
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("weather", CircuitBreaker.Settings.defaults(), new SimpleMeterRegistry());
+        weatherClient = new WeatherClient(restTemplate, circuitBreaker,
+                new RequestHedger("weather", RequestHedger.Settings.disabled(), new SimpleMeterRegistry()));
+    }
+
     @Test
     void 날씨_조회_시_응답_상태가_OK가_아니면_예외가_발생한다() {
         // given
-        ResponseEntity<WeatherDto[]> responseEntity = new ResponseEntity<>(HttpStatus.BAD_REQUEST);
-        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willReturn(responseEntity);
+        givenWeatherApi().willAnswer(respond(HttpStatus.BAD_REQUEST, ""));
 
         // when & then
         ServerException exception = assertThrows(ServerException.class, () ->
@@ -44,8 +68,7 @@ class WeatherClientTest {
     @Test
     void 날씨_조회_시_응답_바디가_null이면_예외가_발생한다() {
         // given
-        ResponseEntity<WeatherDto[]> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willReturn(responseEntity);
+        givenWeatherApi().willAnswer(respond(HttpStatus.OK, ""));
 
         // when & then
         ServerException exception = assertThrows(ServerException.class, () ->
@@ -58,8 +81,7 @@ class WeatherClientTest {
     void 날씨_조회_시_응답_바디가_비어있으면_예외가_발생한다() {
         // given
         WeatherDto[] emptyArray = new WeatherDto[0];
-        ResponseEntity<WeatherDto[]> responseEntity = new ResponseEntity<>(emptyArray, HttpStatus.OK);
-        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willReturn(responseEntity);
+        givenWeatherApi().willAnswer(respond(HttpStatus.OK, emptyArray));
 
         // when & then
         ServerException exception = assertThrows(ServerException.class, () ->
@@ -75,8 +97,7 @@ class WeatherClientTest {
             new WeatherDto("01-01", "Sunny"),
             new WeatherDto("02-02", "Rainy")
         };
-        ResponseEntity<WeatherDto[]> responseEntity = new ResponseEntity<>(weatherArray, HttpStatus.OK);
-        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willReturn(responseEntity);
+        givenWeatherApi().willAnswer(respond(HttpStatus.OK, weatherArray));
 
         // when & then
         ServerException exception = assertThrows(ServerException.class, () ->
@@ -93,8 +114,7 @@ class WeatherClientTest {
             new WeatherDto(today, "Sunny"),
             new WeatherDto("01-01", "Rainy")
         };
-        ResponseEntity<WeatherDto[]> responseEntity = new ResponseEntity<>(weatherArray, HttpStatus.OK);
-        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willReturn(responseEntity);
+        givenWeatherApi().willAnswer(respond(HttpStatus.OK, weatherArray));
 
         // when
         String weather = weatherClient.getTodayWeather();
@@ -103,4 +123,205 @@ class WeatherClientTest {
         assertNotNull(weather);
         assertEquals("Sunny", weather);
     }
+
+    @Test
+    void 두번째_조회부터는_캐시된_날씨를_응답한다() {
+        // given
+        setClock(LocalDateTime.of(2024, 3, 10, 12, 0));
+        WeatherDto[] weatherArray = {new WeatherDto("03-10", "Sunny")};
+        givenWeatherApi()
+                .willAnswer(respond(HttpStatus.OK, weatherArray));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        verify(restTemplate, times(1)).execute(any(URI.class), eq(HttpMethod.GET), isNull(), ArgumentMatchers.<ResponseExtractor<WeatherTable>>any());
+    }
+
+    @Test
+    void 자정이_가까워지면_날씨_테이블을_미리_갱신한다() {
+        // given
+        ReflectionTestUtils.setField(weatherClient, "fetchExecutor", (Executor) Runnable::run);
+        WeatherDto[] weatherArray = {
+            new WeatherDto("03-10", "Sunny"),
+            new WeatherDto("03-11", "Rainy")
+        };
+        givenWeatherApi()
+                .willAnswer(respond(HttpStatus.OK, weatherArray));
+        setClock(LocalDateTime.of(2024, 3, 10, 12, 0));
+        weatherClient.getTodayWeather();
+
+        // when
+        setClock(LocalDateTime.of(2024, 3, 10, 23, 55));
+        String today = weatherClient.getTodayWeather();
+        setClock(LocalDateTime.of(2024, 3, 11, 0, 1));
+        String tomorrow = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", today);
+        assertEquals("Rainy", tomorrow);
+        verify(restTemplate, times(2)).execute(any(URI.class), eq(HttpMethod.GET), isNull(), ArgumentMatchers.<ResponseExtractor<WeatherTable>>any());
+    }
+
+    @Test
+    void 갱신에_실패하면_허용된_시간_동안만_이전_날씨를_응답한다() {
+        // given
+        setClock(LocalDateTime.of(2024, 3, 10, 12, 0));
+        WeatherDto[] weatherArray = {
+            new WeatherDto("03-10", "Sunny"),
+            new WeatherDto("03-11", "Rainy")
+        };
+        givenWeatherApi()
+                .willAnswer(respond(HttpStatus.OK, weatherArray))
+                .willThrow(new RestClientException("connection refused"));
+        weatherClient.getTodayWeather();
+
+        // when
+        setClock(LocalDateTime.of(2024, 3, 11, 1, 0));
+        String stale = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", stale);
+        setClock(LocalDateTime.of(2024, 3, 11, 7, 0));
+        assertThrows(RestClientException.class, () -> weatherClient.getTodayWeather());
+    }
+
+    @Test
+    void 오늘이_아닌_날짜의_날씨도_한_번_받은_테이블에서_조회한다() {
+        // given
+        setClock(LocalDateTime.of(2024, 3, 10, 12, 0));
+        WeatherDto[] weatherArray = {
+            new WeatherDto("03-10", "Sunny"),
+            new WeatherDto("12-25", "Snowy")
+        };
+        givenWeatherApi()
+                .willAnswer(respond(HttpStatus.OK, weatherArray));
+
+        // when
+        String today = weatherClient.getTodayWeather();
+        String christmas = weatherClient.getWeather(LocalDate.of(2023, 12, 25));
+
+        // then
+        assertEquals("Sunny", today);
+        assertEquals("Snowy", christmas);
+        verify(restTemplate, times(1)).execute(any(URI.class), eq(HttpMethod.GET), isNull(), ArgumentMatchers.<ResponseExtractor<WeatherTable>>any());
+        ServerException exception = assertThrows(ServerException.class, () ->
+            weatherClient.getWeather(LocalDate.of(2024, 1, 1))
+        );
+        assertEquals("해당 날짜의 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 동시에_들어온_조회는_하나의_upstream_호출을_공유한다() throws Exception {
+        // given
+        int callers = 16;
+        AtomicInteger upstreamHits = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        givenWeatherApi().willAnswer(invocation -> {
+            upstreamHits.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return respond(HttpStatus.OK, new WeatherDto[]{new WeatherDto(today, "Sunny")}).answer(invocation);
+        });
+
+        // when
+        List<Future<String>> results = runConcurrently(callers, weatherClient::getTodayWeather);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamHits.get());
+    }
+
+    @Test
+    void 공유된_조회가_실패하면_모든_호출자가_같은_예외를_받는다() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger upstreamHits = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        RestClientException failure = new RestClientException("connection reset");
+        givenWeatherApi().willAnswer(invocation -> {
+            upstreamHits.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        // when
+        List<Future<String>> results = runConcurrently(callers, weatherClient::getTodayWeather);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, exception.getCause());
+        }
+        assertEquals(1, upstreamHits.get());
+    }
+
+    @Test
+    void 연속_실패로_서킷이_열리면_upstream을_호출하지_않고_바로_실패한다() {
+        // given
+        givenWeatherApi()
+                .willThrow(new RestClientException("connection refused"));
+        for (int i = 0; i < 5; i++) {
+            assertThrows(RestClientException.class, () -> weatherClient.getTodayWeather());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // when & then
+        assertThrows(WeatherUnavailableException.class, () -> weatherClient.getTodayWeather());
+        verify(restTemplate, times(5)).execute(any(URI.class), eq(HttpMethod.GET), isNull(), ArgumentMatchers.<ResponseExtractor<WeatherTable>>any());
+    }
+
+    private BDDMockito.BDDMyOngoingStubbing<WeatherTable> givenWeatherApi() {
+        return given(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), isNull(), ArgumentMatchers.<ResponseExtractor<WeatherTable>>any()));
+    }
+
+    // RestTemplate 대신 응답 추출기에 JSON 바디를 그대로 흘려 스트리밍 파싱 경로까지 검증한다
+    private static Answer<Object> respond(HttpStatus status, WeatherDto[] weatherArray) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < weatherArray.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(weatherArray[i].getDate())
+                    .append("\",\"weather\":\"").append(weatherArray[i].getWeather()).append("\"}");
+        }
+        return respond(status, json.append(']').toString());
+    }
+
+    private static Answer<Object> respond(HttpStatus status, String body) {
+        return invocation -> {
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status));
+        };
+    }
+
+    private List<Future<String>> runConcurrently(int callers, Callable<String> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch started = new CountDownLatch(callers);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                started.countDown();
+                return task.call();
+            }));
+        }
+        executor.shutdown();
+        started.await(5, TimeUnit.SECONDS);
+        // 모든 호출자가 in-flight 조회에 합류할 시간을 준다
+        Thread.sleep(200);
+        return results;
+    }
+
+    private void setClock(LocalDateTime now) {
+        ZoneId zone = ZoneId.systemDefault();
+        ReflectionTestUtils.setField(weatherClient, "clock", Clock.fixed(now.atZone(zone).toInstant(), zone));
+    }
 }
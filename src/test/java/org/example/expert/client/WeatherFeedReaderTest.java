@@ -0,0 +1,62 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedReaderTest {
+
+    private final WeatherFeedReader feedReader = new WeatherFeedReader();
+
+    @Test
+    void 피드_전체를_읽어_날짜별_테이블을_만든다() throws IOException {
+        // given
+        String json = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},"
+                + "{\"weather\":\"Cloudy\",\"date\":\"02-29\"},"
+                + "{\"date\":\"12-31\",\"weather\":\"Snowy\",\"extra\":{\"wind\":[1,2]}}]";
+
+        // when
+        WeatherTable table = feedReader.readTable(body(json));
+
+        // then
+        assertEquals(3, table.size());
+        assertEquals("Sunny", table.get(LocalDate.of(2024, 1, 1)));
+        assertEquals("Cloudy", table.get(MonthDay.of(2, 29)));
+        assertEquals("Snowy", table.get(LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    void 형식이_맞지_않는_항목은_건너뛴다() throws IOException {
+        // given
+        String json = "[{\"date\":\"2024-01-01\",\"weather\":\"Sunny\"},"
+                + "{\"date\":\"03-10\"},"
+                + "{\"date\":\"03-11\",\"weather\":null},"
+                + "{\"date\":\"03-12\",\"weather\":\"Rainy\"}]";
+
+        // when
+        WeatherTable table = feedReader.readTable(body(json));
+
+        // then
+        assertEquals(1, table.size());
+        assertEquals("Rainy", table.get(MonthDay.of(3, 12)));
+    }
+
+    @Test
+    void 바디가_비어있거나_배열이_아니면_빈_테이블을_만든다() throws IOException {
+        // when & then
+        assertTrue(feedReader.readTable(body("")).isEmpty());
+        assertTrue(feedReader.readTable(body("null")).isEmpty());
+        assertTrue(feedReader.readTable(body("[]")).isEmpty());
+    }
+
+    private InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherTableTest {
+
+    @Test
+    void 날짜별_날씨를_day_of_year_슬롯으로_조회한다() {
+        // given
+        WeatherDto[] weatherArray = {
+            new WeatherDto("01-01", "Sunny"),
+            new WeatherDto("02-29", "Cloudy"),
+            new WeatherDto("12-31", "Snowy")
+        };
+
+        // when
+        WeatherTable table = WeatherTable.from(weatherArray);
+
+        // then
+        assertEquals(3, table.size());
+        assertEquals("Sunny", table.get(LocalDate.of(2023, 1, 1)));
+        assertEquals("Cloudy", table.get(MonthDay.of(2, 29)));
+        assertEquals("Snowy", table.get(LocalDate.of(2024, 12, 31)));
+        assertNull(table.get(LocalDate.of(2024, 3, 1)));
+    }
+
+    @Test
+    void 모든_날짜가_서로_다른_슬롯에_매핑된다() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 1);
+
+        // when & then
+        for (int expected = 0; expected < WeatherTable.SLOTS; expected++) {
+            assertEquals(expected, WeatherTable.index(date.getMonthValue(), date.getDayOfMonth()));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    void 형식이_잘못된_날짜는_무시한다() {
+        // given
+        WeatherDto[] weatherArray = {
+            new WeatherDto("13-01", "Sunny"),
+            new WeatherDto("02-30", "Sunny"),
+            new WeatherDto("1-1", "Sunny"),
+            new WeatherDto(null, "Sunny"),
+            new WeatherDto("ab-cd", "Sunny")
+        };
+
+        // when
+        WeatherTable table = WeatherTable.from(weatherArray);
+
+        // then
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void 같은_날짜가_중복되면_처음_값을_유지한다() {
+        // given
+        WeatherDto[] weatherArray = {
+            new WeatherDto("05-05", "Sunny"),
+            new WeatherDto("05-05", "Rainy")
+        };
+
+        // when
+        WeatherTable table = WeatherTable.from(weatherArray);
+
+        // then
+        assertEquals(1, table.size());
+        assertEquals("Sunny", table.get(MonthDay.of(5, 5)));
+    }
+}
@@ -2,7 +2,8 @@ package org.example.expert.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.junit.jupiter.api.BeforeEach;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,7 +12,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,53 +31,56 @@ class AdminAccessInterceptorTest {
     private AdminAccessInterceptor adminAccessInterceptor;
 
     @Test
-    void ADMIN_권한이_아닌_경우_403_에러를_반환하고_false를_리턴한다() throws Exception {
+    void 관리자_경로_정책이면_true를_리턴한다() throws Exception {
         // given
-        given(request.getAttribute("userRole")).willReturn("USER");
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUDITED);
+        given(request.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(new AuthUser(1L, "admin@test.com", UserRole.ADMIN));
 
         // when
         boolean result = adminAccessInterceptor.preHandle(request, response, new Object());
 
         // then
-        assertFalse(result);
-        verify(response).sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 필요합니다.");
+        assertTrue(result);
+        verify(response, never()).sendError(anyInt(), anyString());
     }
 
     @Test
-    void ADMIN_권한인_경우_true를_리턴한다() throws Exception {
+    void 관리자_경로_정책이_아니면_403_에러를_반환하고_false를_리턴한다() throws Exception {
         // given
-        given(request.getAttribute("userRole")).willReturn("ADMIN");
-        given(request.getAttribute("userId")).willReturn(1L);
-        given(request.getRequestURI()).willReturn("/admin/users");
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUTHENTICATED);
 
         // when
         boolean result = adminAccessInterceptor.preHandle(request, response, new Object());
 
         // then
-        assertTrue(result);
+        assertFalse(result);
+        verify(response).sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 필요합니다.");
     }
 
     @Test
-    void userRole이_null인_경우_InvalidRequestException이_발생한다() throws Exception {
+    void 관리자_경로라도_ADMIN이_아니면_403_에러를_반환하고_false를_리턴한다() throws Exception {
         // given
-        given(request.getAttribute("userRole")).willReturn(null);
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(RoutePolicy.AUDITED);
+        given(request.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(new AuthUser(1L, "test@test.com", UserRole.USER));
+
+        // when
+        boolean result = adminAccessInterceptor.preHandle(request, response, new Object());
 
-        // when & then
-        org.junit.jupiter.api.Assertions.assertThrows(
-            org.example.expert.domain.common.exception.InvalidRequestException.class,
-            () -> adminAccessInterceptor.preHandle(request, response, new Object())
-        );
+        // then
+        assertFalse(result);
+        verify(response).sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 필요합니다.");
     }
 
     @Test
-    void userRole이_잘못된_값인_경우_InvalidRequestException이_발생한다() throws Exception {
+    void 경로_정책이_없으면_403_에러를_반환하고_false를_리턴한다() throws Exception {
         // given
-        given(request.getAttribute("userRole")).willReturn("INVALID_ROLE");
+        given(request.getAttribute(RoutePolicy.REQUEST_ATTRIBUTE)).willReturn(null);
 
-        // when & then
-        org.junit.jupiter.api.Assertions.assertThrows(
-            org.example.expert.domain.common.exception.InvalidRequestException.class,
-            () -> adminAccessInterceptor.preHandle(request, response, new Object())
-        );
+        // when
+        boolean result = adminAccessInterceptor.preHandle(request, response, new Object());
+
+        // then
+        assertFalse(result);
+        verify(response).sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 필요합니다.");
     }
 }
@@ -0,0 +1,63 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Argon2idPasswordHasherTest {
+
+    private Argon2idPasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = new Argon2idPasswordHasher();
+        ReflectionTestUtils.setField(hasher, "memoryKib", 64);
+        ReflectionTestUtils.setField(hasher, "iterations", 1);
+        hasher.init();
+    }
+
+    @Test
+    void 해시한_비밀번호를_검증한다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+
+        // when & then
+        assertTrue(encodedPassword.startsWith("$argon2id$v=19$m=64,t=1,p=1$"));
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertFalse(hasher.verify("passw0rd!", encodedPassword));
+        assertNotEquals(encodedPassword, hasher.hash("Passw0rd!"));
+    }
+
+    @Test
+    void 파라미터가_다른_해시는_다시_해시해야_한다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+        ReflectionTestUtils.setField(hasher, "iterations", 2);
+
+        // when & then
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertTrue(hasher.needsRehash(encodedPassword));
+        assertFalse(hasher.needsRehash(hasher.hash("Passw0rd!")));
+    }
+
+    @Test
+    void 버전이_다르거나_파라미터가_잘못된_해시는_일치하지_않는다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+
+        // when & then
+        assertFalse(hasher.verify("Passw0rd!", encodedPassword.replace("$v=19$", "$v=16$")));
+        assertFalse(hasher.verify("Passw0rd!", encodedPassword.replace("m=64", "m=4")));
+    }
+
+    @Test
+    void 잘못된_파라미터는_시작할_때_막는다() {
+        // given
+        ReflectionTestUtils.setField(hasher, "parallelism", 0);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> hasher.init());
+    }
+}
@@ -89,16 +89,12 @@ class AuthUserArgumentResolverTest {
     }
 
     @Test
-    void request_속성에서_AuthUser를_올바르게_생성한다() {
+    void request_속성의_AuthUser를_그대로_반환한다() {
         // given
-        Long userId = 1L;
-        String email = "test@test.com";
-        String userRole = "USER";
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
 
         given(webRequest.getNativeRequest()).willReturn(httpServletRequest);
-        given(httpServletRequest.getAttribute("userId")).willReturn(userId);
-        given(httpServletRequest.getAttribute("email")).willReturn(email);
-        given(httpServletRequest.getAttribute("userRole")).willReturn(userRole);
+        given(httpServletRequest.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(authUser);
 
         // when
         Object result = authUserArgumentResolver.resolveArgument(
@@ -106,39 +102,19 @@ class AuthUserArgumentResolverTest {
         );
 
         // then
-        assertNotNull(result);
-        assertTrue(result instanceof AuthUser);
-
-        AuthUser authUser = (AuthUser) result;
-        assertEquals(userId, authUser.getId());
-        assertEquals(email, authUser.getEmail());
-        assertEquals(UserRole.USER, authUser.getUserRole());
+        assertSame(authUser, result);
     }
 
     @Test
-    void ADMIN_권한으로_AuthUser를_올바르게_생성한다() {
+    void request_속성에_AuthUser가_없으면_AuthException이_발생한다() {
         // given
-        Long userId = 2L;
-        String email = "admin@test.com";
-        String userRole = "ADMIN";
-
         given(webRequest.getNativeRequest()).willReturn(httpServletRequest);
-        given(httpServletRequest.getAttribute("userId")).willReturn(userId);
-        given(httpServletRequest.getAttribute("email")).willReturn(email);
-        given(httpServletRequest.getAttribute("userRole")).willReturn(userRole);
+        given(httpServletRequest.getAttribute(AuthUser.REQUEST_ATTRIBUTE)).willReturn(null);
 
-        // when
-        Object result = authUserArgumentResolver.resolveArgument(
-            methodParameter, null, webRequest, null
+        // when & then
+        AuthException exception = assertThrows(AuthException.class, () ->
+            authUserArgumentResolver.resolveArgument(methodParameter, null, webRequest, null)
         );
-
-        // then
-        assertNotNull(result);
-        assertTrue(result instanceof AuthUser);
-
-        AuthUser authUser = (AuthUser) result;
-        assertEquals(userId, authUser.getId());
-        assertEquals(email, authUser.getEmail());
-        assertEquals(UserRole.ADMIN, authUser.getUserRole());
+        assertEquals("인증이 필요합니다.", exception.getMessage());
     }
 }
@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BCryptPasswordHasherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BCryptPasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hasher = new BCryptPasswordHasher(meterRegistry);
+        ReflectionTestUtils.setField(hasher, "configuredCost", 4);
+    }
+
+    @Test
+    void 해시한_비밀번호를_검증하고_cost별_시간을_기록한다() {
+        // given
+        hasher.init();
+        String encodedPassword = hasher.hash("testPassword");
+
+        // when & then
+        assertTrue(encodedPassword.startsWith("$2a$04$"));
+        assertTrue(hasher.verify("testPassword", encodedPassword));
+        assertFalse(hasher.verify("wrongPassword", encodedPassword));
+        assertEquals(3, meterRegistry.timer("password.bcrypt.duration", "cost", "4").count());
+    }
+
+    @Test
+    void cost를_정하지_않으면_예산_안에_드는_가장_큰_cost를_고른다() {
+        // given
+        ReflectionTestUtils.setField(hasher, "configuredCost", 0);
+        ReflectionTestUtils.setField(hasher, "minCost", 4);
+        ReflectionTestUtils.setField(hasher, "maxCost", 6);
+        ReflectionTestUtils.setField(hasher, "latencyBudget", Duration.ofSeconds(10));
+
+        // when
+        hasher.init();
+
+        // then
+        assertEquals(6, hasher.getCost());
+        assertEquals(6.0, meterRegistry.get("password.bcrypt.cost").gauge().value());
+        assertEquals(1, meterRegistry.timer("password.bcrypt.duration", "cost", "5").count());
+        assertTrue(hasher.hash("testPassword").startsWith("$2a$06$"));
+    }
+
+    @Test
+    void 최소_cost도_예산을_넘으면_최소_cost를_쓴다() {
+        // given
+        ReflectionTestUtils.setField(hasher, "configuredCost", 0);
+        ReflectionTestUtils.setField(hasher, "minCost", 5);
+        ReflectionTestUtils.setField(hasher, "latencyBudget", Duration.ZERO);
+
+        // when
+        hasher.init();
+
+        // then
+        assertEquals(5, hasher.getCost());
+        assertEquals(0, meterRegistry.find("password.bcrypt.duration").tag("cost", "6").timers().size());
+    }
+
+    @Test
+    void bcrypt가_새_해시_알고리즘이_아니면_cost를_측정하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(hasher, "configuredCost", 0);
+        ReflectionTestUtils.setField(hasher, "minCost", 4);
+        ReflectionTestUtils.setField(hasher, "activeAlgorithm", "argon2id");
+
+        // when
+        hasher.init();
+
+        // then
+        assertEquals(4, hasher.getCost());
+        assertTrue(meterRegistry.find("password.bcrypt.duration").timers().isEmpty());
+    }
+
+    @Test
+    void 범위를_벗어난_cost는_시작할_때_막는다() {
+        // given
+        ReflectionTestUtils.setField(hasher, "configuredCost", 32);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> hasher.init());
+    }
+
+    @Test
+    void 다른_cost로_만든_해시는_다시_해시해야_한다() {
+        // given
+        hasher.init();
+        String current = hasher.hash("testPassword");
+        String old = "$2a$05$" + current.substring(7);
+
+        // when & then
+        assertFalse(hasher.needsRehash(current));
+        assertTrue(hasher.needsRehash(old));
+        assertTrue(hasher.needsRehash("plain"));
+    }
+}
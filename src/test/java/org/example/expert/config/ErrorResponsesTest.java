@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponsesTest {
+
+    private ErrorResponses errorResponses;
+
+    @BeforeEach
+    void setUp() {
+        errorResponses = new ErrorResponses(new ObjectMapper());
+    }
+
+    @Test
+    void 선언된_고정_메시지는_미리_만든_바이트를_그대로_쓴다() {
+        // when
+        byte[] first = errorResponses.body(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        byte[] second = errorResponses.body(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        byte[] otherStatus = errorResponses.body(HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+
+        // then
+        assertSame(first, second);
+        assertSame(first, errorResponses.body(HttpStatus.UNAUTHORIZED, ErrorMessage.AUTHENTICATION_REQUIRED.message()));
+        assertNotSame(first, otherStatus);
+    }
+
+    @Test
+    void 선언되지_않은_메시지는_캐시하지_않고_매번_직렬화한다() {
+        // when
+        byte[] first = errorResponses.body(HttpStatus.BAD_REQUEST, "Todo not found: 1");
+        byte[] second = errorResponses.body(HttpStatus.BAD_REQUEST, "Todo not found: 1");
+        // 선언된 문구라도 상태 코드가 다르면 선언된 것이 아니다
+        byte[] otherStatus = errorResponses.body(HttpStatus.NOT_FOUND, "인증이 필요합니다.");
+
+        // then
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+        assertNotSame(otherStatus, errorResponses.body(HttpStatus.NOT_FOUND, "인증이 필요합니다."));
+    }
+
+    @Test
+    void 응답에_상태와_JSON_본문을_쓴다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponses.write(response, ErrorMessage.ACCESS_DENIED);
+
+        // then
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(403, response.getStatus());
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        assertEquals(body.getBytes(StandardCharsets.UTF_8).length, response.getContentLength());
+        assertTrue(body.contains("\"status\":\"FORBIDDEN\""));
+        assertTrue(body.contains("\"code\":403"));
+        assertTrue(body.contains("\"message\":\"접근 권한이 없습니다.\""));
+    }
+}
@@ -1,92 +1,136 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class GlobalExceptionHandlerTest {
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
     private GlobalExceptionHandler globalExceptionHandler;
 
     @BeforeEach
     void setUp() {
-        globalExceptionHandler = new GlobalExceptionHandler();
+        globalExceptionHandler = new GlobalExceptionHandler(new ErrorResponses(objectMapper));
     }
 
     @Test
-    void InvalidRequestException을_처리하면_BAD_REQUEST를_반환한다() {
+    void InvalidRequestException을_처리하면_BAD_REQUEST를_반환한다() throws Exception {
         // given
         String errorMessage = "잘못된 요청입니다.";
         InvalidRequestException exception = new InvalidRequestException(errorMessage);
 
         // when
-        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.invalidRequestExceptionException(exception);
+        ResponseEntity<byte[]> response = globalExceptionHandler.invalidRequestExceptionException(exception);
 
         // then
         assertNotNull(response);
+        Map<String, Object> body = body(response);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        assertEquals("BAD_REQUEST", response.getBody().get("status"));
-        assertEquals(400, response.getBody().get("code"));
-        assertEquals(errorMessage, response.getBody().get("message"));
+        assertEquals("BAD_REQUEST", body.get("status"));
+        assertEquals(400, body.get("code"));
+        assertEquals(errorMessage, body.get("message"));
     }
 
     @Test
-    void AuthException을_처리하면_UNAUTHORIZED를_반환한다() {
+    void TooManyRequestsException을_처리하면_TOO_MANY_REQUESTS를_반환한다() throws Exception {
+        // given
+        String errorMessage = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+        TooManyRequestsException exception = new TooManyRequestsException(errorMessage);
+
+        // when
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleTooManyRequestsException(exception);
+
+        // then
+        Map<String, Object> body = body(response);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("TOO_MANY_REQUESTS", body.get("status"));
+        assertEquals(429, body.get("code"));
+        assertEquals(errorMessage, body.get("message"));
+    }
+
+    @Test
+    void AuthException을_처리하면_UNAUTHORIZED를_반환한다() throws Exception {
         // given
         String errorMessage = "인증에 실패했습니다.";
         AuthException exception = new AuthException(errorMessage);
 
         // when
-        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleAuthException(exception);
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleAuthException(exception);
 
         // then
         assertNotNull(response);
+        Map<String, Object> body = body(response);
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-        assertEquals("UNAUTHORIZED", response.getBody().get("status"));
-        assertEquals(401, response.getBody().get("code"));
-        assertEquals(errorMessage, response.getBody().get("message"));
+        assertEquals("UNAUTHORIZED", body.get("status"));
+        assertEquals(401, body.get("code"));
+        assertEquals(errorMessage, body.get("message"));
     }
 
     @Test
-    void ServerException을_처리하면_INTERNAL_SERVER_ERROR를_반환한다() {
+    void ServerException을_처리하면_INTERNAL_SERVER_ERROR를_반환한다() throws Exception {
         // given
         String errorMessage = "서버 오류가 발생했습니다.";
         ServerException exception = new ServerException(errorMessage);
 
         // when
-        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleServerException(exception);
+        ResponseEntity<byte[]> response = globalExceptionHandler.handleServerException(exception);
 
         // then
         assertNotNull(response);
+        Map<String, Object> body = body(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertEquals("INTERNAL_SERVER_ERROR", response.getBody().get("status"));
-        assertEquals(500, response.getBody().get("code"));
-        assertEquals(errorMessage, response.getBody().get("message"));
+        assertEquals("INTERNAL_SERVER_ERROR", body.get("status"));
+        assertEquals(500, body.get("code"));
+        assertEquals(errorMessage, body.get("message"));
     }
 
     @Test
-    void getErrorResponse가_올바른_에러_응답_형식을_반환한다() {
+    void getErrorResponse가_올바른_에러_응답_형식을_반환한다() throws Exception {
         // given
         HttpStatus status = HttpStatus.NOT_FOUND;
         String message = "리소스를 찾을 수 없습니다.";
 
         // when
-        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.getErrorResponse(status, message);
+        ResponseEntity<byte[]> response = globalExceptionHandler.getErrorResponse(status, message);
 
         // then
         assertNotNull(response);
+        Map<String, Object> body = body(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertEquals("NOT_FOUND", response.getBody().get("status"));
-        assertEquals(404, response.getBody().get("code"));
-        assertEquals(message, response.getBody().get("message"));
+        assertEquals("NOT_FOUND", body.get("status"));
+        assertEquals(404, body.get("code"));
+        assertEquals(message, body.get("message"));
+    }
+
+    @Test
+    void 같은_상태와_메시지의_응답_본문은_한_번만_만든다() {
+        // when
+        ResponseEntity<byte[]> first = globalExceptionHandler.handleAuthException(new AuthException("잘못된 비밀번호입니다."));
+        ResponseEntity<byte[]> second = globalExceptionHandler.handleAuthException(new AuthException("잘못된 비밀번호입니다."));
+
+        // then
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, first.getHeaders().getContentType());
+    }
+
+    private Map<String, Object> body(ResponseEntity<byte[]> response) throws IOException {
+        return objectMapper.readValue(response.getBody(), new TypeReference<>() {
+        });
     }
 }
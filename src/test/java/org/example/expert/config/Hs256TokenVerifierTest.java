@@ -0,0 +1,125 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Hs256TokenVerifierTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final Key key = Keys.hmacShaKeyFor(
+            "test-secret-key-for-jwt-token-generation-and-validation-purpose".getBytes(StandardCharsets.UTF_8));
+    private final Hs256TokenVerifier verifier = new Hs256TokenVerifier(new JwtKeyRing(key, null, Duration.ofHours(1)));
+
+    @Test
+    void 발급한_형태의_토큰에서_인증_정보를_읽는다() {
+        // given
+        String token = token(key, NOW + 60_000);
+
+        // when
+        VerifiedToken verified = verifier.verify(token, NOW);
+
+        // then
+        assertNotNull(verified);
+        assertEquals(1L, verified.userId());
+        assertEquals("test@test.com", verified.email());
+        assertEquals(UserRole.USER, verified.userRole());
+        assertEquals(NOW / 1000 * 1000, verified.issuedAtMillis());
+        assertEquals((NOW + 60_000) / 1000 * 1000, verified.expiresAtMillis());
+    }
+
+    @Test
+    void 서명이_다르면_null을_반환한다() {
+        // given
+        Key otherKey = Keys.hmacShaKeyFor(
+                "another-secret-key-for-jwt-token-generation-and-validation".getBytes(StandardCharsets.UTF_8));
+        String signedByOther = token(otherKey, NOW + 60_000);
+        String token = token(key, NOW + 60_000);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BA" : "AA");
+
+        // when & then
+        assertNull(verifier.verify(signedByOther, NOW));
+        assertNull(verifier.verify(tampered, NOW));
+    }
+
+    @Test
+    void 만료된_토큰은_null을_반환한다() {
+        // given
+        String token = token(key, NOW + 60_000);
+
+        // when & then
+        assertNull(verifier.verify(token, NOW + 60_000));
+    }
+
+    @Test
+    void 모르는_claim이_있으면_null을_반환한다() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "test@test.com")
+                .claim("userRole", "USER")
+                .claim("nickname", "tester")
+                .setExpiration(new Date(NOW + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertNull(verifier.verify(token, NOW));
+    }
+
+    @Test
+    void 헤더가_다르면_null을_반환한다() {
+        // given
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("1")
+                .claim("email", "test@test.com")
+                .claim("userRole", "USER")
+                .setExpiration(new Date(NOW + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertNull(verifier.verify(token, NOW));
+        assertNull(verifier.verify("not-a-token", NOW));
+    }
+
+    @Test
+    void base64url을_디코딩한다() {
+        // given
+        byte[] original = "{\"sub\":\"1\"}??>>".getBytes(StandardCharsets.UTF_8);
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(original);
+        byte[] out = new byte[32];
+
+        // when
+        int length = Hs256TokenVerifier.decode(encoded, 0, encoded.length(), out);
+
+        // then
+        assertEquals(original.length, length);
+        assertArrayEquals(original, Arrays.copyOf(out, length));
+        assertEquals(-1, Hs256TokenVerifier.decode("ab+c", 0, 4, out));
+    }
+
+    private static String token(Key key, long expiresAtMillis) {
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "test@test.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(expiresAtMillis))
+                .setIssuedAt(new Date(NOW))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
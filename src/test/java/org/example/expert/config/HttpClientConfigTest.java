@@ -0,0 +1,133 @@
+package org.example.expert.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.example.expert.client.CircuitBreaker;
+import org.example.expert.client.RequestHedger;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    private HttpServer stubServer;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 응답을 보내지 않고 멈춰 있는 upstream
+        stubServer.createContext("/stall", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        stubServer.createContext("/weather.json", exchange -> {
+            byte[] body = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        stubServer.start();
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 4);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 2);
+        ReflectionTestUtils.setField(config, "readTimeout", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(config, "connectionRequestTimeout", Duration.ofMillis(200));
+        connectionManager = config.weatherConnectionManager();
+        httpClient = config.weatherHttpClient(connectionManager);
+        restTemplate = config.restTemplate(httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        httpClient.close();
+        stubServer.stop(0);
+    }
+
+    @Test
+    void upstream이_응답하지_않으면_read_timeout_안에_실패한다() {
+        // given
+        URI uri = stubUri("/stall");
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForEntity(uri, String.class));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis < 2000, "elapsed=" + elapsedMillis);
+    }
+
+    @Test
+    void WeatherClient는_upstream이_멈춰도_total_timeout_안에_응답한다() {
+        // given
+        WeatherClient weatherClient = new WeatherClient(restTemplate,
+                new CircuitBreaker("weather", CircuitBreaker.Settings.defaults(), new SimpleMeterRegistry()),
+                new RequestHedger("weather", RequestHedger.Settings.disabled(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(weatherClient, "weatherApiUrl", stubUri("/stall").toString());
+        ReflectionTestUtils.setField(weatherClient, "totalTimeout", Duration.ofMillis(100));
+
+        // when
+        long start = System.nanoTime();
+        ServerException exception = assertThrows(ServerException.class, weatherClient::getTodayWeather);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertEquals("날씨 API 응답 시간이 초과되었습니다.", exception.getMessage());
+        assertTrue(elapsedMillis < 1000, "elapsed=" + elapsedMillis);
+        weatherClient.shutdown();
+    }
+
+    @Test
+    void 커넥션을_재사용하고_풀_사용량을_메트릭으로_노출한다() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new HttpClientConfig().weatherConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+        // when
+        restTemplate.getForEntity(stubUri("/weather.json"), String.class);
+        restTemplate.getForEntity(stubUri("/weather.json"), String.class);
+
+        // then
+        assertEquals(4.0, registry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+        assertEquals(0.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value());
+        assertEquals(1.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value());
+    }
+
+    private URI stubUri(String path) {
+        return URI.create("http://127.0.0.1:" + stubServer.getAddress().getPort() + path);
+    }
+}
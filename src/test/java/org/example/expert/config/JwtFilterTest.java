@@ -3,21 +3,37 @@ package org.example.expert.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserSecurityEpochCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.io.PrintWriter;
-import java.io.StringWriter;
-
+import org.springframework.mock.web.DelegatingServletOutputStream;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -31,6 +47,12 @@ class JwtFilterTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private UserSecurityEpochCache userSecurityEpochCache;
+
     @Mock
     private HttpServletRequest request;
 
@@ -41,17 +63,14 @@ class JwtFilterTest {
     private FilterChain filterChain;
 
     private JwtFilter jwtFilter;
-    private ObjectMapper objectMapper;
-    private StringWriter stringWriter;
-    private PrintWriter printWriter;
+    private ByteArrayOutputStream responseBody;
 
     @BeforeEach
     void setUp() throws Exception {
-        objectMapper = new ObjectMapper();
-        jwtFilter = new JwtFilter(jwtUtil, objectMapper);
-        stringWriter = new StringWriter();
-        printWriter = new PrintWriter(stringWriter);
-        lenient().when(response.getWriter()).thenReturn(printWriter);
+        jwtFilter = new JwtFilter(jwtUtil, new ErrorResponses(new ObjectMapper()), tokenRevocationList, userSecurityEpochCache,
+                new RoutePolicyConfig().routePolicyTable());
+        responseBody = new ByteArrayOutputStream();
+        lenient().when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(responseBody));
     }
 
     @Test
@@ -63,10 +82,46 @@ class JwtFilterTest {
         jwtFilter.doFilterInternal(request, response, filterChain);
 
         // then
+        verify(request).setAttribute(RoutePolicy.REQUEST_ATTRIBUTE, RoutePolicy.PUBLIC);
         verify(filterChain).doFilter(request, response);
         verify(jwtUtil, never()).substringToken(anyString());
     }
 
+    @Test
+    void auth로_시작하지만_auth_경로가_아니면_인증이_필요하다() throws Exception {
+        // given
+        given(request.getRequestURI()).willReturn("/authx/signin");
+        given(request.getHeader("Authorization")).willReturn(null);
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(401);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void 인코딩된_admin_경로도_관리자_정책을_적용한다() throws Exception {
+        // given
+        String bearerToken = "Bearer valid.jwt.token";
+        String jwt = "valid.jwt.token";
+
+        VerifiedToken token = new VerifiedToken(1L, "test@test.com", UserRole.USER, null, 0L, 0L, Long.MAX_VALUE);
+
+        given(request.getRequestURI()).willReturn("/%61dmin/users;x=1");
+        given(request.getHeader("Authorization")).willReturn(bearerToken);
+        given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
+        given(jwtUtil.verifyToken(jwt)).willReturn(token);
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(403);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
     @Test
     void Authorization_헤더가_없으면_401_에러를_반환한다() throws Exception {
         // given
@@ -81,9 +136,7 @@ class JwtFilterTest {
         verify(response).setContentType("application/json;charset=UTF-8");
         verify(filterChain, never()).doFilter(any(), any());
 
-        printWriter.flush();
-        String responseBody = stringWriter.toString();
-        assertTrue(responseBody.contains("인증이 필요합니다."));
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
     }
 
     @Test
@@ -92,27 +145,72 @@ class JwtFilterTest {
         String bearerToken = "Bearer valid.jwt.token";
         String jwt = "valid.jwt.token";
 
-        Claims claims = mock(Claims.class);
-        given(claims.getSubject()).willReturn("1");
-        given(claims.get("email")).willReturn("test@test.com");
-        given(claims.get("userRole")).willReturn("USER");
-        given(claims.get(eq("userRole"), eq(String.class))).willReturn("USER");
+        VerifiedToken token = new VerifiedToken(1L, "test@test.com", UserRole.USER, null, 0L, 0L, Long.MAX_VALUE);
 
         given(request.getRequestURI()).willReturn("/todos");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willReturn(claims);
+        given(jwtUtil.verifyToken(jwt)).willReturn(token);
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
 
         // then
-        verify(request).setAttribute("userId", 1L);
-        verify(request).setAttribute("email", "test@test.com");
-        verify(request).setAttribute("userRole", "USER");
+        ArgumentCaptor<AuthUser> authUser = ArgumentCaptor.forClass(AuthUser.class);
+        verify(request).setAttribute(eq(AuthUser.REQUEST_ATTRIBUTE), authUser.capture());
+        assertEquals(1L, authUser.getValue().getId());
+        assertEquals("test@test.com", authUser.getValue().getEmail());
+        assertEquals(UserRole.USER, authUser.getValue().getUserRole());
+        verify(request).setAttribute(RoutePolicy.REQUEST_ATTRIBUTE, RoutePolicy.AUTHENTICATED);
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    void 폐기된_토큰이면_401_에러를_반환한다() throws Exception {
+        // given
+        String bearerToken = "Bearer revoked.jwt.token";
+        String jwt = "revoked.jwt.token";
+
+        VerifiedToken token = new VerifiedToken(1L, "test@test.com", UserRole.USER, "jti-1", 0L, 0L, Long.MAX_VALUE);
+
+        given(request.getRequestURI()).willReturn("/todos");
+        given(request.getHeader("Authorization")).willReturn(bearerToken);
+        given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
+        given(jwtUtil.verifyToken(jwt)).willReturn(token);
+        given(tokenRevocationList.isRevoked(token)).willReturn(true);
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(401);
+        verify(request, never()).setAttribute(anyString(), any());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void 권한_변경_이전에_발급된_토큰이면_401_에러를_반환한다() throws Exception {
+        // given
+        String bearerToken = "Bearer stale.jwt.token";
+        String jwt = "stale.jwt.token";
+
+        VerifiedToken token = new VerifiedToken(1L, "admin@test.com", UserRole.ADMIN, "jti-1", 0L, 0L, Long.MAX_VALUE);
+
+        given(request.getRequestURI()).willReturn("/admin/users/2");
+        given(request.getHeader("Authorization")).willReturn(bearerToken);
+        given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
+        given(jwtUtil.verifyToken(jwt)).willReturn(token);
+        given(userSecurityEpochCache.currentEpoch(1L)).willReturn(1L);
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(401);
+        verify(request, never()).setAttribute(anyString(), any());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
     @Test
     void Claims가_null이면_401_에러를_반환한다() throws Exception {
         // given
@@ -122,7 +220,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn("/todos");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willReturn(null);
+        given(jwtUtil.verifyToken(jwt)).willReturn(null);
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -131,9 +229,7 @@ class JwtFilterTest {
         verify(response).setStatus(401);
         verify(filterChain, never()).doFilter(any(), any());
 
-        printWriter.flush();
-        String responseBody = stringWriter.toString();
-        assertTrue(responseBody.contains("인증이 필요합니다."));
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
     }
 
     @Test
@@ -142,27 +238,22 @@ class JwtFilterTest {
         String bearerToken = "Bearer valid.jwt.token";
         String jwt = "valid.jwt.token";
 
-        Claims claims = mock(Claims.class);
-        given(claims.getSubject()).willReturn("1");
-        given(claims.get("email")).willReturn("test@test.com");
-        given(claims.get("userRole")).willReturn("USER");
-        given(claims.get(eq("userRole"), eq(String.class))).willReturn("USER");
+        VerifiedToken token = new VerifiedToken(1L, "test@test.com", UserRole.USER, null, 0L, 0L, Long.MAX_VALUE);
 
         given(request.getRequestURI()).willReturn("/admin/users");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willReturn(claims);
+        given(jwtUtil.verifyToken(jwt)).willReturn(token);
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
 
         // then
         verify(response).setStatus(403);
+        verify(request, never()).setAttribute(eq(AuthUser.REQUEST_ATTRIBUTE), any());
         verify(filterChain, never()).doFilter(any(), any());
 
-        printWriter.flush();
-        String responseBody = stringWriter.toString();
-        assertTrue(responseBody.contains("접근 권한이 없습니다."));
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("접근 권한이 없습니다."));
     }
 
     @Test
@@ -171,24 +262,23 @@ class JwtFilterTest {
         String bearerToken = "Bearer valid.jwt.token";
         String jwt = "valid.jwt.token";
 
-        Claims claims = mock(Claims.class);
-        given(claims.getSubject()).willReturn("1");
-        given(claims.get("email")).willReturn("admin@test.com");
-        given(claims.get("userRole")).willReturn("ADMIN");
-        given(claims.get(eq("userRole"), eq(String.class))).willReturn("ADMIN");
+        VerifiedToken token = new VerifiedToken(1L, "admin@test.com", UserRole.ADMIN, null, 0L, 0L, Long.MAX_VALUE);
 
         given(request.getRequestURI()).willReturn("/admin/users");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willReturn(claims);
+        given(jwtUtil.verifyToken(jwt)).willReturn(token);
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
 
         // then
-        verify(request).setAttribute("userId", 1L);
-        verify(request).setAttribute("email", "admin@test.com");
-        verify(request).setAttribute("userRole", "ADMIN");
+        ArgumentCaptor<AuthUser> authUser = ArgumentCaptor.forClass(AuthUser.class);
+        verify(request).setAttribute(eq(AuthUser.REQUEST_ATTRIBUTE), authUser.capture());
+        assertEquals(1L, authUser.getValue().getId());
+        assertEquals("admin@test.com", authUser.getValue().getEmail());
+        assertEquals(UserRole.ADMIN, authUser.getValue().getUserRole());
+        verify(request).setAttribute(RoutePolicy.REQUEST_ATTRIBUTE, RoutePolicy.AUDITED);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -204,7 +294,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn("/todos");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willThrow(new ExpiredJwtException(null, claims, "JWT expired"));
+        given(jwtUtil.verifyToken(jwt)).willThrow(new ExpiredJwtException(null, claims, "JWT expired"));
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -213,9 +303,7 @@ class JwtFilterTest {
         verify(response).setStatus(401);
         verify(filterChain, never()).doFilter(any(), any());
 
-        printWriter.flush();
-        String responseBody = stringWriter.toString();
-        assertTrue(responseBody.contains("인증이 필요합니다."));
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
     }
 
     @Test
@@ -227,7 +315,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn("/todos");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willThrow(new MalformedJwtException("JWT is malformed"));
+        given(jwtUtil.verifyToken(jwt)).willThrow(new MalformedJwtException("JWT is malformed"));
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -236,9 +324,7 @@ class JwtFilterTest {
         verify(response).setStatus(400);
         verify(filterChain, never()).doFilter(any(), any());
 
-        printWriter.flush();
-        String responseBody = stringWriter.toString();
-        assertTrue(responseBody.contains("인증이 필요합니다."));
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
     }
 
     @Test
@@ -250,7 +336,7 @@ class JwtFilterTest {
         given(request.getRequestURI()).willReturn("/todos");
         given(request.getHeader("Authorization")).willReturn(bearerToken);
         given(jwtUtil.substringToken(bearerToken)).willReturn(jwt);
-        given(jwtUtil.extractClaims(jwt)).willThrow(new RuntimeException("Unexpected error"));
+        given(jwtUtil.verifyToken(jwt)).willThrow(new RuntimeException("Unexpected error"));
 
         // when
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -259,8 +345,86 @@ class JwtFilterTest {
         verify(response).setStatus(500);
         verify(filterChain, never()).doFilter(any(), any());
 
-        printWriter.flush();
-        String responseBody = stringWriter.toString();
-        assertTrue(responseBody.contains("요청 처리 중 오류가 발생했습니다."));
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("요청 처리 중 오류가 발생했습니다."));
+    }
+
+    @Test
+    void 서명이_맞지_않는_토큰이면_401_에러를_반환한다() throws Exception {
+        // given
+        JwtUtil issuer = hs256("other-secret-key-for-jwt-token-generation-and-validation-purpose");
+        JwtUtil verifier = hs256("test-secret-key-for-jwt-token-generation-and-validation-purpose");
+        String bearerToken = issuer.createToken(1L, "test@test.com", UserRole.ADMIN);
+        given(request.getRequestURI()).willReturn("/todos");
+        given(request.getHeader("Authorization")).willReturn(bearerToken);
+
+        // when
+        filterWith(verifier).doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(401);
+        verify(filterChain, never()).doFilter(any(), any());
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
+    }
+
+    @Test
+    void 서명_알고리즘을_바꾸기_전에_발급된_토큰이면_401_에러를_반환한다(@TempDir Path keyDirectory) throws Exception {
+        // given
+        KeyPair keyPair = AsymmetricTokenCodecTest.keyPair(AsymmetricTokenCodec.Algorithm.ES256);
+        Path publicKey = Files.write(keyDirectory.resolve("public.key"),
+                Base64.getEncoder().encode(keyPair.getPublic().getEncoded()));
+        JwtUtil verifier = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifier, "signingAlgorithm", "ES256");
+        ReflectionTestUtils.setField(verifier, "publicKeyPath", publicKey.toString());
+        verifier.init();
+        String bearerToken = hs256("test-secret-key-for-jwt-token-generation-and-validation-purpose")
+                .createToken(1L, "test@test.com", UserRole.USER);
+        given(request.getRequestURI()).willReturn("/todos");
+        given(request.getHeader("Authorization")).willReturn(bearerToken);
+
+        // when
+        filterWith(verifier).doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(401);
+        verify(filterChain, never()).doFilter(any(), any());
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
+    }
+
+    @Test
+    void 모르는_kid로_서명된_토큰이면_401_에러를_반환한다() throws Exception {
+        // given
+        JwtUtil verifier = hs256("test-secret-key-for-jwt-token-generation-and-validation-purpose");
+        Key key = (Key) ReflectionTestUtils.getField(verifier, "key");
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "retired")
+                .setSubject("1")
+                .claim("email", "test@test.com")
+                .claim("userRole", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        given(request.getRequestURI()).willReturn("/todos");
+        given(request.getHeader("Authorization")).willReturn("Bearer " + token);
+
+        // when
+        filterWith(verifier).doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(401);
+        verify(filterChain, never()).doFilter(any(), any());
+        assertTrue(responseBody.toString(StandardCharsets.UTF_8).contains("인증이 필요합니다."));
+    }
+
+    private JwtFilter filterWith(JwtUtil verifier) {
+        return new JwtFilter(verifier, new ErrorResponses(new ObjectMapper()), tokenRevocationList, userSecurityEpochCache,
+                new RoutePolicyConfig().routePolicyTable());
+    }
+
+    private static JwtUtil hs256(String secret) {
+        JwtUtil hs256 = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hs256, "secretKey",
+                Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.UTF_8)));
+        hs256.init();
+        return hs256;
     }
 }
@@ -0,0 +1,144 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @TempDir
+    Path keyDirectory;
+
+    private final Key defaultKey = Keys.hmacShaKeyFor(secret('d'));
+    private Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        writeKey("2024-05-01", 'a');
+    }
+
+    @Test
+    void 키_디렉터리가_없으면_기본_키로_kid_없이_서명한다() {
+        // given
+        JwtKeyRing keyRing = new JwtKeyRing(defaultKey, null, RETENTION);
+
+        // when
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+
+        // then
+        assertNull(signingKey.kid());
+        assertSame(defaultKey, signingKey.key());
+        assertSame(defaultKey, keyRing.verificationKey(null));
+        assertNull(keyRing.verificationKey("2024-05-01"));
+    }
+
+    @Test
+    void kid가_가장_큰_키로_서명하고_모든_키로_검증한다() throws IOException {
+        // given
+        writeKey("2024-06-01", 'b');
+        JwtKeyRing keyRing = new JwtKeyRing(defaultKey, keyDirectory, RETENTION);
+
+        // when
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+
+        // then
+        assertEquals("2024-06-01", signingKey.kid());
+        assertEquals(Keys.hmacShaKeyFor(secret('a')), keyRing.verificationKey("2024-05-01"));
+        assertEquals(Keys.hmacShaKeyFor(secret('b')), keyRing.verificationKey("2024-06-01"));
+        assertSame(defaultKey, keyRing.verificationKey(null));
+        assertNull(keyRing.verificationKey("unknown"));
+        assertNotNull(keyRing.keyForEncodedHeader(signingKey.encodedHeader()));
+    }
+
+    @Test
+    void reload하면_새_키로_서명을_바꾼다() throws IOException {
+        // given
+        JwtKeyRing keyRing = new JwtKeyRing(defaultKey, keyDirectory, RETENTION);
+        assertEquals("2024-05-01", keyRing.signingKey().kid());
+
+        // when
+        writeKey("2024-06-01", 'b');
+        keyRing.reload();
+
+        // then
+        assertEquals("2024-06-01", keyRing.signingKey().kid());
+        assertEquals(Set.of("2024-05-01", "2024-06-01"), keyRing.kids());
+    }
+
+    @Test
+    void 디렉터리에서_지운_키는_retention_동안만_검증에_쓴다() throws IOException {
+        // given
+        writeKey("2024-06-01", 'b');
+        JwtKeyRing keyRing = new JwtKeyRing(defaultKey, keyDirectory, RETENTION);
+        ReflectionTestUtils.setField(keyRing, "clock", Clock.fixed(now, ZoneOffset.UTC));
+        Files.delete(keyDirectory.resolve("2024-05-01.key"));
+
+        // when
+        keyRing.reload();
+        Key stillValid = keyRing.verificationKey("2024-05-01");
+
+        ReflectionTestUtils.setField(keyRing, "clock", Clock.fixed(now.plus(RETENTION), ZoneOffset.UTC));
+        keyRing.reload();
+
+        // then
+        assertNotNull(stillValid);
+        assertNull(keyRing.verificationKey("2024-05-01"));
+        assertEquals("2024-06-01", keyRing.signingKey().kid());
+    }
+
+    @Test
+    void 잘못된_키_파일은_건너뛴다() throws IOException {
+        // given
+        Files.writeString(keyDirectory.resolve("short.key"), Base64.getEncoder().encodeToString(new byte[8]));
+        Files.writeString(keyDirectory.resolve("zzz.key"), "not base64!");
+        Files.writeString(keyDirectory.resolve("bad kid.key"), Base64.getEncoder().encodeToString(secret('c')));
+
+        // when
+        JwtKeyRing keyRing = new JwtKeyRing(defaultKey, keyDirectory, RETENTION);
+
+        // then
+        assertEquals(Set.of("2024-05-01"), keyRing.kids());
+        assertEquals("2024-05-01", keyRing.signingKey().kid());
+    }
+
+    @Test
+    void 디렉터리를_읽지_못하면_기존_키를_유지한다() throws IOException {
+        // given
+        JwtKeyRing keyRing = new JwtKeyRing(defaultKey, keyDirectory, RETENTION);
+        Files.delete(keyDirectory.resolve("2024-05-01.key"));
+        Files.delete(keyDirectory);
+
+        // when
+        keyRing.reload();
+
+        // then
+        assertEquals("2024-05-01", keyRing.signingKey().kid());
+    }
+
+    private void writeKey(String kid, char fill) throws IOException {
+        Files.writeString(keyDirectory.resolve(kid + ".key"), Base64.getEncoder().encodeToString(secret(fill)),
+                StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] secret(char fill) {
+        return String.valueOf(fill).repeat(32).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -1,23 +1,38 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class JwtUtilTest {
 
+    private SimpleMeterRegistry meterRegistry;
     private JwtUtil jwtUtil;
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(meterRegistry);
         // Base64로 인코딩된 256비트 시크릿 키 설정
         String secretKey = Base64.getEncoder().encodeToString(
             "test-secret-key-for-jwt-token-generation-and-validation-purpose".getBytes()
@@ -96,4 +111,230 @@ class JwtUtilTest {
         assertEquals(email, claims.get("email"));
         assertEquals(userRole.name(), claims.get("userRole"));
     }
+
+    @Test
+    void 같은_토큰은_한_번만_검증하고_캐시된_claims를_재사용한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.counter("jwt.cache.gets", "result", "miss").count());
+        assertEquals(1, meterRegistry.counter("jwt.cache.gets", "result", "hit").count());
+    }
+
+    @Test
+    void 전용_검증기로_검증한_토큰은_캐시를_거치지_않는다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+
+        // when
+        jwtUtil.verifyToken(token);
+        jwtUtil.verifyToken(token);
+
+        // then
+        assertEquals(2, meterRegistry.counter("jwt.verifications", "path", "fast").count());
+        assertEquals(0, meterRegistry.counter("jwt.cache.gets", "result", "miss").count());
+        assertEquals(0, meterRegistry.counter("jwt.cache.gets", "result", "hit").count());
+    }
+
+    @Test
+    void 캐시를_끄면_매번_검증한다() {
+        // given
+        JwtUtil uncached = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(uncached, "secretKey", ReflectionTestUtils.getField(jwtUtil, "secretKey"));
+        ReflectionTestUtils.setField(uncached, "cacheEnabled", false);
+        uncached.init();
+        String token = uncached.substringToken(uncached.createToken(1L, "test@test.com", UserRole.USER));
+
+        // when
+        Claims first = uncached.extractClaims(token);
+        Claims second = uncached.extractClaims(token);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(first.getSubject(), second.getSubject());
+    }
+
+    @Test
+    void 직접_발급한_토큰은_전용_검증기로_검증한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.ADMIN));
+
+        // when
+        VerifiedToken verified = jwtUtil.verifyToken(token);
+
+        // then
+        assertEquals(1L, verified.userId());
+        assertEquals("test@test.com", verified.email());
+        assertEquals(UserRole.ADMIN, verified.userRole());
+        assertEquals(1, meterRegistry.counter("jwt.verifications", "path", "fast").count());
+        assertEquals(0, meterRegistry.counter("jwt.verifications", "path", "jjwt").count());
+    }
+
+    @Test
+    void 다른_형태의_토큰은_jjwt로_검증한다() {
+        // given
+        Key key = (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+        String token = Jwts.builder()
+                .setSubject("2")
+                .claim("email", "other@test.com")
+                .claim("userRole", "USER")
+                .claim("nickname", "other")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        VerifiedToken verified = jwtUtil.verifyToken(token);
+
+        // then
+        assertEquals(2L, verified.userId());
+        assertEquals(UserRole.USER, verified.userRole());
+        assertEquals(0, meterRegistry.counter("jwt.verifications", "path", "fast").count());
+        assertEquals(1, meterRegistry.counter("jwt.verifications", "path", "jjwt").count());
+    }
+
+    @Test
+    void 만료된_토큰은_jjwt_예외가_발생한다() {
+        // given
+        Key key = (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "test@test.com")
+                .claim("userRole", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyToken(token));
+    }
+
+    @Test
+    void 키를_교체해도_이전_키로_발급한_토큰을_검증한다(@TempDir Path keyDirectory) throws IOException {
+        // given
+        Files.writeString(keyDirectory.resolve("2024-05-01.key"), Base64.getEncoder().encodeToString(new byte[32]));
+        JwtUtil rotating = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(rotating, "secretKey", ReflectionTestUtils.getField(jwtUtil, "secretKey"));
+        ReflectionTestUtils.setField(rotating, "keyDirectory", keyDirectory.toString());
+        rotating.init();
+        String oldToken = rotating.substringToken(rotating.createToken(1L, "test@test.com", UserRole.USER));
+        String legacyToken = jwtUtil.substringToken(jwtUtil.createToken(2L, "legacy@test.com", UserRole.USER));
+
+        // when
+        byte[] newSecret = new byte[32];
+        Arrays.fill(newSecret, (byte) 1);
+        Files.writeString(keyDirectory.resolve("2024-06-01.key"), Base64.getEncoder().encodeToString(newSecret));
+        rotating.reloadKeys();
+        String newToken = rotating.substringToken(rotating.createToken(1L, "test@test.com", UserRole.USER));
+
+        // then
+        assertEquals("2024-05-01", Jwts.parserBuilder().build().parse(unsigned(oldToken)).getHeader().get("kid"));
+        assertEquals("2024-06-01", Jwts.parserBuilder().build().parse(unsigned(newToken)).getHeader().get("kid"));
+        assertEquals(1L, rotating.verifyToken(oldToken).userId());
+        assertEquals(1L, rotating.verifyToken(newToken).userId());
+        assertEquals(2L, rotating.verifyToken(legacyToken).userId());
+        assertEquals("1", rotating.extractClaims(oldToken).getSubject());
+        assertEquals(3, meterRegistry.counter("jwt.verifications", "path", "fast").count());
+    }
+
+    @Test
+    void 모르는_kid로_서명된_토큰은_예외가_발생한다() {
+        // given
+        Key key = (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "unknown")
+                .setSubject("1")
+                .claim("email", "test@test.com")
+                .claim("userRole", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(SignatureException.class, () -> jwtUtil.verifyToken(token));
+    }
+
+    @Test
+    void 토큰에_securityEpoch를_담는다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER, 3L));
+
+        // when
+        VerifiedToken fast = jwtUtil.verifyToken(token);
+        VerifiedToken fromClaims = VerifiedToken.from(jwtUtil.extractClaims(token));
+
+        // then
+        assertEquals(3L, fast.securityEpoch());
+        assertEquals(3L, fromClaims.securityEpoch());
+        assertNotNull(fast.tokenId());
+        assertEquals(fast.tokenId(), fromClaims.tokenId());
+        assertEquals(1, meterRegistry.counter("jwt.verifications", "path", "fast").count());
+    }
+
+    @Test
+    void 비대칭_모드에서는_개인키가_있는_인스턴스만_발급하고_검증_노드는_공개키로_검증한다(@TempDir Path keyDirectory) throws Exception {
+        // given
+        KeyPair keyPair = AsymmetricTokenCodecTest.keyPair(AsymmetricTokenCodec.Algorithm.EDDSA);
+        Path privateKey = Files.write(keyDirectory.resolve("private.key"), Base64.getEncoder().encode(keyPair.getPrivate().getEncoded()));
+        Path publicKey = Files.write(keyDirectory.resolve("public.key"), Base64.getEncoder().encode(keyPair.getPublic().getEncoded()));
+        JwtUtil signer = asymmetric("EdDSA", publicKey, privateKey);
+        JwtUtil verifier = asymmetric("EdDSA", publicKey, null);
+
+        // when
+        String token = signer.substringToken(signer.createToken(1L, "test@test.com", UserRole.ADMIN, 2L));
+        VerifiedToken verified = verifier.verifyToken(token);
+
+        // then
+        assertTrue(signer.canIssueTokens());
+        assertFalse(verifier.canIssueTokens());
+        assertEquals(1L, verified.userId());
+        assertEquals(UserRole.ADMIN, verified.userRole());
+        assertEquals(2L, verified.securityEpoch());
+        assertNotNull(verified.tokenId());
+        ServerException exception = assertThrows(ServerException.class,
+                () -> verifier.createToken(1L, "test@test.com", UserRole.USER));
+        assertEquals("토큰을 발급할 수 없는 인스턴스입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 비대칭_모드에서는_HS256_토큰을_받지_않는다(@TempDir Path keyDirectory) throws Exception {
+        // given
+        KeyPair keyPair = AsymmetricTokenCodecTest.keyPair(AsymmetricTokenCodec.Algorithm.ES256);
+        Path publicKey = Files.write(keyDirectory.resolve("public.key"), Base64.getEncoder().encode(keyPair.getPublic().getEncoded()));
+        JwtUtil verifier = asymmetric("ES256", publicKey, null);
+        String hs256Token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.ADMIN));
+
+        // when & then
+        assertThrows(SignatureException.class, () -> verifier.verifyToken(hs256Token));
+    }
+
+    @Test
+    void 비대칭_모드에서_공개키가_없으면_시작할_수_없다() {
+        // given
+        JwtUtil misconfigured = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(misconfigured, "signingAlgorithm", "ES256");
+
+        // when & then
+        assertThrows(IllegalStateException.class, misconfigured::init);
+    }
+
+    private JwtUtil asymmetric(String algorithm, Path publicKey, Path privateKey) {
+        JwtUtil asymmetric = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(asymmetric, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(asymmetric, "publicKeyPath", publicKey.toString());
+        ReflectionTestUtils.setField(asymmetric, "privateKeyPath", privateKey != null ? privateKey.toString() : "");
+        asymmetric.init();
+        return asymmetric;
+    }
+
+    // 헤더만 확인하기 위해 서명을 떼어낸다
+    private static String unsigned(String token) {
+        return token.substring(0, token.lastIndexOf('.') + 1);
+    }
 }
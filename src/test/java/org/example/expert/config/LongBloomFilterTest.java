@@ -0,0 +1,54 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongBloomFilterTest {
+
+    @Test
+    void 넣은_키는_항상_있다고_답한다() {
+        // given
+        LongBloomFilter filter = new LongBloomFilter(1_000, 0.01);
+        for (long key = 0; key < 1_000; key++) {
+            filter.put(key * 31);
+        }
+
+        // when & then
+        for (long key = 0; key < 1_000; key++) {
+            assertTrue(filter.mightContain(key * 31));
+        }
+    }
+
+    @Test
+    void 오탐률이_설정값_근처다() {
+        // given
+        int entries = 10_000;
+        LongBloomFilter filter = new LongBloomFilter(entries, 0.01);
+        for (long key = 0; key < entries; key++) {
+            filter.put(key);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long key = entries; key < entries + probes; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue((double) falsePositives / probes < 0.02, "false positive rate: " + falsePositives);
+    }
+
+    @Test
+    void 크기와_해시_개수를_오탐률에서_계산한다() {
+        // when
+        LongBloomFilter filter = new LongBloomFilter(100_000, 0.01);
+
+        // then (n=100,000, p=1% -> 약 958,506 bit 를 2^20 으로 올림, k=7)
+        assertEquals(1 << 20, filter.bitCount());
+        assertEquals(7, filter.hashCount());
+    }
+}
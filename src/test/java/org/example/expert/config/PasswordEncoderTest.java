@@ -1,18 +1,55 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor hashingExecutor;
+    private BCryptPasswordHasher bcrypt;
+    private SCryptPasswordHasher scrypt;
+    private Argon2idPasswordHasher argon2id;
+    private Pbkdf2PasswordHasher pbkdf2;
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry);
+        hashingExecutor.init();
+
+        bcrypt = new BCryptPasswordHasher(meterRegistry);
+        ReflectionTestUtils.setField(bcrypt, "configuredCost", 4);
+        bcrypt.init();
+        scrypt = new SCryptPasswordHasher();
+        ReflectionTestUtils.setField(scrypt, "logN", 4);
+        argon2id = new Argon2idPasswordHasher();
+        ReflectionTestUtils.setField(argon2id, "memoryKib", 64);
+        ReflectionTestUtils.setField(argon2id, "iterations", 1);
+        pbkdf2 = new Pbkdf2PasswordHasher();
+        ReflectionTestUtils.setField(pbkdf2, "iterations", 1000);
+
+        passwordEncoder = new PasswordEncoder(hashingExecutor, List.of(bcrypt, scrypt, argon2id, pbkdf2), meterRegistry);
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+        hashingExecutor.shutdown();
+    }
+
     //TODO-4-1
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,5 +62,107 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertTrue(encodedPassword.startsWith("$2a$04$"));
+    }
+
+    @Test
+    void 알고리즘을_바꿔도_이전_알고리즘의_해시로_검증한다() {
+        // given
+        String bcryptHash = passwordEncoder.encode("testPassword");
+        String scryptHash = scrypt.hash("testPassword");
+        String pbkdf2Hash = pbkdf2.hash("testPassword");
+
+        // when
+        changeAlgorithm("argon2id");
+        String argon2Hash = passwordEncoder.encode("testPassword");
+
+        // then
+        assertTrue(argon2Hash.startsWith("$argon2id$"));
+        for (String encodedPassword : List.of(bcryptHash, scryptHash, pbkdf2Hash, argon2Hash)) {
+            assertTrue(passwordEncoder.matches("testPassword", encodedPassword), encodedPassword);
+            assertFalse(passwordEncoder.matches("wrongPassword", encodedPassword), encodedPassword);
+        }
+        assertTrue(passwordEncoder.needsRehash(bcryptHash));
+        assertFalse(passwordEncoder.needsRehash(argon2Hash));
+    }
+
+    @Test
+    void 형식을_알_수_없는_해시는_일치하지_않는다() {
+        // when & then
+        assertFalse(passwordEncoder.matches("testPassword", "testPassword"));
+        assertFalse(passwordEncoder.matches("testPassword", "$md5$abc"));
+        assertTrue(passwordEncoder.needsRehash("$md5$abc"));
+    }
+
+    @Test
+    void 지원하지_않는_알고리즘은_시작할_때_막는다() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> changeAlgorithm("md5"));
+    }
+
+    @Test
+    void 같은_id를_쓰는_구현이_둘이면_시작할_때_막는다() {
+        // given
+        PasswordHasher duplicate = new Pbkdf2PasswordHasher() {
+            @Override
+            public Set<String> ids() {
+                return Set.of("2a");
+            }
+        };
+        PasswordEncoder encoder = new PasswordEncoder(hashingExecutor, List.of(bcrypt, duplicate), meterRegistry);
+
+        // when & then
+        assertThrows(IllegalStateException.class, encoder::init);
+    }
+
+    @Test
+    void 로그인에_성공한_비밀번호를_백그라운드에서_지금_설정으로_다시_해시한다() throws Exception {
+        // given
+        String rawPassword = "testPassword";
+        String oldHash = passwordEncoder.encode(rawPassword);
+        changeAlgorithm("scrypt");
+        CompletableFuture<String> rehashed = new CompletableFuture<>();
+        CompletableFuture<String> writerThread = new CompletableFuture<>();
+        waitUntilHashingThreadsIdle();
+
+        // when
+        passwordEncoder.rehashInBackground(rawPassword, oldHash, hash -> {
+            writerThread.complete(Thread.currentThread().getName());
+            rehashed.complete(hash);
+        });
+
+        // then
+        String newHash = rehashed.get(5, TimeUnit.SECONDS);
+        // DB 쓰기는 해시 스레드를 잡지 않는다
+        assertEquals("password-rehash-writer", writerThread.get());
+        assertTrue(newHash.startsWith("$scrypt$ln=4,r=8,p=1$"));
+        assertTrue(passwordEncoder.matches(rawPassword, newHash));
+        assertEquals(1, meterRegistry.counter("password.rehash", "result", "scheduled").count());
+    }
+
+    @Test
+    void 지금_설정으로_만든_해시는_다시_해시하지_않는다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when
+        passwordEncoder.rehashInBackground("testPassword", encodedPassword, rehashed -> fail("다시 해시하면 안 됩니다."));
+
+        // then
+        assertEquals(0, meterRegistry.counter("password.rehash", "result", "scheduled").count());
+    }
+
+    private void changeAlgorithm(String algorithm) {
+        ReflectionTestUtils.setField(passwordEncoder, "algorithm", algorithm);
+        passwordEncoder.init();
+    }
+
+    // 결과를 돌려준 뒤에도 스레드가 잠깐 active 로 남아 있을 수 있다
+    private void waitUntilHashingThreadsIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.active").gauge().value() > 0) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
     }
 }
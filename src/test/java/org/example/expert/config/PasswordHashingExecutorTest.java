@@ -0,0 +1,146 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor hashingExecutor;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry);
+        ReflectionTestUtils.setField(hashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "maxWait", Duration.ofMillis(200));
+        hashingExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void 해시_스레드에서_실행한_결과를_돌려준다() {
+        // when
+        String threadName = hashingExecutor.execute("encode", () -> Thread.currentThread().getName());
+
+        // then
+        assertTrue(threadName.startsWith("password-hash-"));
+        assertEquals(1, meterRegistry.timer("password.hashing.duration", "operation", "encode").count());
+        assertEquals(1, meterRegistry.timer("password.hashing.wait").count());
+    }
+
+    @Test
+    void 작업이_던진_예외를_그대로_다시_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> hashingExecutor.execute("matches", () -> {
+                    throw new InvalidRequestException("잘못된 비밀번호입니다.");
+                }));
+        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_거절한다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        callers.submit(() -> hashingExecutor.execute("encode", () -> {
+            started.countDown();
+            await(release);
+            return "running";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> hashingExecutor.execute("encode", () -> "queued"));
+        waitForQueueDepth(1);
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> hashingExecutor.execute("encode", () -> "rejected"));
+        assertEquals(1, meterRegistry.counter("password.hashing.rejected", "reason", "queue-full").count());
+    }
+
+    @Test
+    void 시간_안에_시작하지_못한_작업은_거절하고_실행하지_않는다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> running = callers.submit(() -> hashingExecutor.execute("encode", () -> {
+            started.countDown();
+            await(release);
+            return "running";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        assertThrows(TooManyRequestsException.class, () -> hashingExecutor.execute("matches", () -> {
+            executed.set(true);
+            return true;
+        }));
+        release.countDown();
+
+        // then
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+        assertFalse(executed.get());
+        assertEquals(0.0, meterRegistry.get("password.hashing.queue.depth").gauge().value());
+        assertEquals(1, meterRegistry.counter("password.hashing.rejected", "reason", "timeout").count());
+    }
+
+    @Test
+    void 이미_시작한_작업은_max_wait가_지나도_끝까지_기다린다() {
+        // when
+        String result = hashingExecutor.execute("encode", () -> {
+            sleep(400);
+            return "done";
+        });
+
+        // then
+        assertEquals("done", result);
+        assertEquals(0, meterRegistry.counter("password.hashing.rejected", "reason", "timeout").count());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Pbkdf2PasswordHasherTest {
+
+    private Pbkdf2PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = new Pbkdf2PasswordHasher();
+        ReflectionTestUtils.setField(hasher, "iterations", 1000);
+        hasher.init();
+    }
+
+    @Test
+    void 해시한_비밀번호를_검증한다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+
+        // when & then
+        assertTrue(encodedPassword.startsWith("$pbkdf2-sha256$i=1000$"));
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertFalse(hasher.verify("passw0rd!", encodedPassword));
+    }
+
+    @Test
+    void 다른_구현이_만든_해시도_검증한다() {
+        // given: Python hashlib.pbkdf2_hmac("sha256", iterations=1000, salt=b"0123456789abcdef", dklen=32)
+        String encodedPassword = "$pbkdf2-sha256$i=1000$MDEyMzQ1Njc4OWFiY2RlZg$2/6i32L0Bi6MtP2OuJMPcqA89+m4kdqqE3/bAThGMxs";
+
+        // when & then
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertFalse(hasher.needsRehash(encodedPassword));
+    }
+
+    @Test
+    void 반복_횟수가_다른_해시는_다시_해시해야_한다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+        ReflectionTestUtils.setField(hasher, "iterations", 2000);
+
+        // when & then
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertTrue(hasher.needsRehash(encodedPassword));
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhcStringTest {
+
+    @Test
+    void 버전이_있는_해시_문자열을_읽고_다시_만든다() {
+        // given
+        String encoded = "$argon2id$v=19$m=19456,t=2,p=1$MDEyMzQ1Njc4OWFiY2RlZg$2/6i32L0Bi6MtP2OuJMPcqA89+m4kdqqE3/bAThGMxs";
+
+        // when
+        PhcString phc = PhcString.parse(encoded);
+
+        // then
+        assertNotNull(phc);
+        assertEquals("argon2id", phc.id());
+        assertEquals(19, phc.version());
+        assertEquals(19456, phc.param("m"));
+        assertEquals(-1, phc.param("x"));
+        assertEquals("0123456789abcdef", new String(phc.salt()));
+        assertEquals(32, phc.hash().length);
+        assertEquals(encoded, phc.encode());
+    }
+
+    @Test
+    void 버전이_없는_해시_문자열을_읽는다() {
+        // when
+        PhcString phc = PhcString.parse("$pbkdf2-sha256$i=1000$MDEyMzQ1Njc4OWFiY2RlZg$AAAA");
+
+        // then
+        assertNotNull(phc);
+        assertEquals(-1, phc.version());
+        assertEquals(1000, phc.param("i"));
+    }
+
+    @Test
+    void 형식이_맞지_않으면_null을_돌려준다() {
+        // when & then
+        assertNull(PhcString.parse(null));
+        assertNull(PhcString.parse("$2a$10$abcdefghijklmnopqrstuv"));
+        assertNull(PhcString.parse("$scrypt$ln=x$AAAA$AAAA"));
+        assertNull(PhcString.parse("$scrypt$ln=4$$AAAA"));
+        assertNull(PhcString.parse("$scrypt$ln=4$%%%%$AAAA"));
+    }
+}
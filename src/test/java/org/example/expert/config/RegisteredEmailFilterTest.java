@@ -0,0 +1,116 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registeredEmailFilter = new RegisteredEmailFilter(userRepository, meterRegistry);
+        ReflectionTestUtils.setField(registeredEmailFilter, "expectedEntries", 10_000);
+        registeredEmailFilter.init();
+    }
+
+    @Test
+    void 적재하기_전에는_모두_DB로_확인하게_한다() {
+        // when & then
+        assertFalse(registeredEmailFilter.isReady());
+        assertTrue(registeredEmailFilter.mightExist("new@test.com"));
+    }
+
+    @Test
+    void 시작할_때_이메일을_스트림으로_읽고_닫는다() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(userRepository.count()).willReturn(2L);
+        given(userRepository.streamAllEmails())
+                .willReturn(Stream.of("a@test.com", "B@test.com").onClose(() -> closed.set(true)));
+
+        // when
+        registeredEmailFilter.warmUp();
+
+        // then
+        assertTrue(registeredEmailFilter.isReady());
+        assertTrue(closed.get());
+        assertTrue(registeredEmailFilter.mightExist("a@test.com"));
+        assertTrue(registeredEmailFilter.mightExist("b@test.com"));
+        assertFalse(registeredEmailFilter.mightExist("c@test.com"));
+        assertEquals(2.0, meterRegistry.get("user.email-filter.entries").gauge().value());
+        assertEquals(1, meterRegistry.counter("user.email-filter.checks", "result", "absent").count());
+    }
+
+    @Test
+    void 가입한_이메일은_바로_있다고_답한다() {
+        // given
+        given(userRepository.count()).willReturn(0L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty());
+        registeredEmailFilter.warmUp();
+
+        // when
+        registeredEmailFilter.add("new@test.com");
+
+        // then
+        assertTrue(registeredEmailFilter.mightExist("new@test.com"));
+    }
+
+    @Test
+    void 넣은_이메일을_놓치지_않고_오탐률이_설정값_이하다() {
+        // given
+        given(userRepository.count()).willReturn(10_000L);
+        given(userRepository.streamAllEmails())
+                .willReturn(IntStream.range(0, 10_000).mapToObj(i -> "user" + i + "@test.com"));
+        registeredEmailFilter.warmUp();
+
+        // when
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (registeredEmailFilter.mightExist("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(registeredEmailFilter.mightExist("user" + i + "@test.com"));
+        }
+        assertTrue((double) falsePositives / probes <= 0.01, "false positive rate: " + falsePositives);
+    }
+
+    @Test
+    void 가입자가_예상보다_많으면_필터를_키운다() {
+        // given
+        given(userRepository.count()).willReturn(50_000L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty());
+        long before = ((LongBloomFilter) ReflectionTestUtils.getField(registeredEmailFilter, "bloomFilter")).bitCount();
+
+        // when
+        registeredEmailFilter.warmUp();
+
+        // then
+        long after = ((LongBloomFilter) ReflectionTestUtils.getField(registeredEmailFilter, "bloomFilter")).bitCount();
+        assertTrue(after > before);
+    }
+}
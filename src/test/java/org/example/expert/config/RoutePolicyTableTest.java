@@ -0,0 +1,73 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePolicyTableTest {
+
+    private final RoutePolicyTable table = RoutePolicyTable.builder()
+            .route("/auth/**", RoutePolicy.PUBLIC)
+            .route("/admin/**", RoutePolicy.AUDITED)
+            .route("/admin/health", RoutePolicy.AUTHENTICATED)
+            .route("/todos/*/comments", RoutePolicy.PUBLIC)
+            .route("/todos/*/managers/**", RoutePolicy.ADMIN)
+            .defaultPolicy(RoutePolicy.AUTHENTICATED)
+            .build();
+
+    @Test
+    void 고정_세그먼트가_와일드카드보다_우선한다() {
+        // when & then
+        assertEquals(RoutePolicy.AUTHENTICATED, table.resolve("/admin/health"));
+        assertEquals(RoutePolicy.AUDITED, table.resolve("/admin/users/1"));
+        assertEquals(RoutePolicy.PUBLIC, table.resolve("/todos/1/comments"));
+        assertEquals(RoutePolicy.ADMIN, table.resolve("/todos/1/managers/2"));
+    }
+
+    @Test
+    void 이중_별표는_접두_경로_자체에도_맞는다() {
+        // when & then
+        assertEquals(RoutePolicy.PUBLIC, table.resolve("/auth"));
+        assertEquals(RoutePolicy.AUDITED, table.resolve("/admin/"));
+    }
+
+    @Test
+    void 세그먼트_경계가_다르면_맞지_않는다() {
+        // when & then
+        assertEquals(RoutePolicy.AUTHENTICATED, table.resolve("/authx/signin"));
+        assertEquals(RoutePolicy.AUTHENTICATED, table.resolve("/todos/1/comments/2"));
+        assertEquals(RoutePolicy.AUTHENTICATED, table.resolve("/"));
+    }
+
+    @Test
+    void 중복_슬래시와_인코딩과_세미콜론_파라미터를_정규화한다() {
+        // when & then
+        assertEquals(RoutePolicy.AUDITED, table.resolve("//admin//users/"));
+        assertEquals(RoutePolicy.AUDITED, table.resolve("/%61dmin/users"));
+        assertEquals(RoutePolicy.AUDITED, table.resolve("/admin;jsessionid=1/users"));
+    }
+
+    @Test
+    void 점_세그먼트는_풀어낸_경로로_정책을_정한다() {
+        // when & then
+        assertEquals(RoutePolicy.AUTHENTICATED, table.resolve("/auth/../todos"));
+        assertEquals(RoutePolicy.AUTHENTICATED, table.resolve("/auth/%2e%2e/todos"));
+        assertEquals(RoutePolicy.AUDITED, table.resolve("/auth/./../admin/users"));
+        assertEquals(RoutePolicy.AUDITED, table.resolve("/../admin/users"));
+        assertEquals(RoutePolicy.PUBLIC, table.resolve("/auth/./signin"));
+        assertEquals(RoutePolicy.PUBLIC, table.resolve("/auth/..signin"));
+    }
+
+    @Test
+    void 잘못된_패턴은_만들_때_거부한다() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> RoutePolicyTable.builder().route("admin/**", RoutePolicy.ADMIN));
+        assertThrows(IllegalArgumentException.class,
+                () -> RoutePolicyTable.builder().route("/admin/**/users", RoutePolicy.ADMIN));
+        assertThrows(IllegalArgumentException.class,
+                () -> RoutePolicyTable.builder()
+                        .route("/admin/**", RoutePolicy.ADMIN)
+                        .route("/admin/**", RoutePolicy.AUDITED));
+    }
+}
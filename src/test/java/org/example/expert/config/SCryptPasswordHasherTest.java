@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SCryptPasswordHasherTest {
+
+    private SCryptPasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = new SCryptPasswordHasher();
+        ReflectionTestUtils.setField(hasher, "logN", 4);
+        hasher.init();
+    }
+
+    @Test
+    void 해시한_비밀번호를_검증한다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+
+        // when & then
+        assertTrue(encodedPassword.startsWith("$scrypt$ln=4,r=8,p=1$"));
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertFalse(hasher.verify("passw0rd!", encodedPassword));
+        assertNotEquals(encodedPassword, hasher.hash("Passw0rd!"));
+    }
+
+    @Test
+    void 다른_구현이_만든_해시도_검증한다() {
+        // given: Python hashlib.scrypt(n=16, r=8, p=1, salt=b"0123456789abcdef", dklen=32)
+        String encodedPassword = "$scrypt$ln=4,r=8,p=1$MDEyMzQ1Njc4OWFiY2RlZg$1sS2fJKq8fD917Q3GhAq4w+0NwiuEqR/Pwe/l9Bq9r0";
+
+        // when & then
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertFalse(hasher.needsRehash(encodedPassword));
+    }
+
+    @Test
+    void 파라미터가_다른_해시는_다시_해시해야_한다() {
+        // given
+        String encodedPassword = hasher.hash("Passw0rd!");
+        ReflectionTestUtils.setField(hasher, "logN", 5);
+
+        // when & then
+        assertTrue(hasher.verify("Passw0rd!", encodedPassword));
+        assertTrue(hasher.needsRehash(encodedPassword));
+    }
+
+    @Test
+    void 형식이_잘못된_해시는_일치하지_않는다() {
+        // when & then
+        assertFalse(hasher.verify("Passw0rd!", "$scrypt$ln=99,r=8,p=1$MDEyMzQ1Njc4OWFiY2RlZg$AAAA"));
+        assertFalse(hasher.verify("Passw0rd!", "$scrypt$ln=4$!!$AAAA"));
+    }
+}
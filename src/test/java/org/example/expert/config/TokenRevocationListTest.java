@@ -0,0 +1,126 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserSecurityEpochChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00.500Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new TokenRevocationList(meterRegistry);
+        revocationList.init();
+        setClock(NOW);
+    }
+
+    @Test
+    void 폐기하지_않은_토큰은_통과한다() {
+        // when & then
+        assertFalse(revocationList.isRevoked(token(1L, "jti-1", NOW.toEpochMilli() - 1_000)));
+    }
+
+    @Test
+    void 로그아웃한_토큰만_막는다() {
+        // given
+        revocationList.revokeToken("jti-1", NOW.toEpochMilli() + 60_000);
+
+        // when & then
+        assertTrue(revocationList.isRevoked(token(1L, "jti-1", NOW.toEpochMilli() - 1_000)));
+        assertFalse(revocationList.isRevoked(token(1L, "jti-2", NOW.toEpochMilli() - 1_000)));
+        assertEquals(1, meterRegistry.counter("jwt.revocation.bloom.positives", "result", "revoked").count());
+    }
+
+    @Test
+    void 기준_시각_이전에_발급된_사용자의_토큰을_모두_막는다() {
+        // given
+        revocationList.revokeAllIssuedBefore(1L);
+
+        // when & then
+        assertTrue(revocationList.isRevoked(token(1L, "jti-1", NOW.toEpochMilli() - 60_000)));
+        assertTrue(revocationList.isRevoked(token(1L, null, NOW.toEpochMilli() - 60_000)));
+        assertFalse(revocationList.isRevoked(token(1L, "jti-2", NOW.toEpochMilli() + 1_000)));
+        assertFalse(revocationList.isRevoked(token(2L, "jti-3", NOW.toEpochMilli() - 60_000)));
+    }
+
+    @Test
+    void 보안_기준이_바뀐_사용자의_기존_토큰을_막는다() {
+        // when
+        revocationList.onSecurityEpochChanged(new UserSecurityEpochChangedEvent(1L, 2L));
+
+        // then
+        assertTrue(revocationList.isRevoked(token(1L, "jti-1", NOW.toEpochMilli() - 60_000)));
+        assertFalse(revocationList.isRevoked(token(2L, "jti-2", NOW.toEpochMilli() - 60_000)));
+    }
+
+    @Test
+    void 기준_시각과_같은_초에_발급된_토큰은_막지_않는다() {
+        // given
+        revocationList.revokeAllIssuedBefore(1L);
+        // iat 는 초 단위로 잘려 있다
+        long sameSecond = NOW.toEpochMilli() / 1000 * 1000;
+
+        // when & then
+        assertFalse(revocationList.isRevoked(token(1L, "jti-1", sameSecond)));
+        assertTrue(revocationList.isRevoked(token(1L, "jti-2", sameSecond - 1_000)));
+    }
+
+    @Test
+    void 토큰_최대_수명이_지난_항목은_sweep에서_지운다() {
+        // given
+        revocationList.revokeToken("jti-1", NOW.toEpochMilli() + 60_000);
+        revocationList.revokeAllIssuedBefore(1L);
+        assertEquals(2, revocationList.size());
+
+        // when
+        setClock(NOW.plusMillis(60_000));
+        revocationList.sweep();
+        int afterTokenExpiry = revocationList.size();
+
+        setClock(NOW.plusMillis(JwtUtil.TOKEN_TIME));
+        revocationList.sweep();
+
+        // then
+        assertEquals(1, afterTokenExpiry);
+        assertEquals(0, revocationList.size());
+        assertFalse(revocationList.isRevoked(token(1L, "jti-1", NOW.toEpochMilli() - 1_000)));
+    }
+
+    @Test
+    void sweep_후에도_남은_항목은_계속_막는다() {
+        // given
+        revocationList.revokeToken("jti-1", NOW.toEpochMilli() + 1_000);
+        revocationList.revokeToken("jti-2", NOW.toEpochMilli() + 60_000);
+
+        // when
+        setClock(NOW.plusMillis(1_000));
+        revocationList.sweep();
+
+        // then
+        assertEquals(1, revocationList.size());
+        assertTrue(revocationList.isRevoked(token(1L, "jti-2", NOW.toEpochMilli())));
+    }
+
+    private void setClock(Instant instant) {
+        ReflectionTestUtils.setField(revocationList, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private static VerifiedToken token(long userId, String tokenId, long issuedAtMillis) {
+        return new VerifiedToken(userId, "test@test.com", UserRole.USER, tokenId, 0L, issuedAtMillis,
+                issuedAtMillis + JwtUtil.TOKEN_TIME);
+    }
+}
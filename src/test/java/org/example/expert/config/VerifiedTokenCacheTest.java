@@ -0,0 +1,112 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-10T12:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(10, meterRegistry);
+        setClock(NOW);
+    }
+
+    @Test
+    void 검증된_토큰은_다시_검증하지_않는다() {
+        // given
+        Function<String, Claims> verifier = verifier(NOW.plusSeconds(3600));
+
+        // when
+        Claims first = cache.getOrVerify("token", verifier);
+        Claims second = cache.getOrVerify("token", verifier);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1, meterRegistry.counter("jwt.cache.gets", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("jwt.cache.gets", "result", "miss").count());
+        assertEquals(1, meterRegistry.get("jwt.cache.size").gauge().value());
+    }
+
+    @Test
+    void exp가_지난_항목은_캐시에서_응답하지_않는다() {
+        // given
+        cache.getOrVerify("token", verifier(NOW.plusSeconds(60)));
+
+        // when
+        setClock(NOW.plusSeconds(60));
+        Claims claims = cache.getOrVerify("token", verifier(NOW.plusSeconds(3600)));
+
+        // then
+        assertEquals(2, verifications.get());
+        assertEquals(NOW.plusSeconds(3600), claims.getExpiration().toInstant());
+    }
+
+    @Test
+    void exp가_없는_토큰과_검증에_실패한_토큰은_캐시하지_않는다() {
+        // given
+        Function<String, Claims> noExpiration = token -> {
+            verifications.incrementAndGet();
+            return Jwts.claims().setSubject("1");
+        };
+        Function<String, Claims> invalid = token -> {
+            throw new MalformedJwtException("invalid");
+        };
+
+        // when
+        cache.getOrVerify("token", noExpiration);
+        cache.getOrVerify("token", noExpiration);
+
+        // then
+        assertEquals(2, verifications.get());
+        assertThrows(MalformedJwtException.class, () -> cache.getOrVerify("invalid", invalid));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 최대_크기를_넘지_않는다() {
+        // given
+        Function<String, Claims> verifier = verifier(NOW.plusSeconds(3600));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.getOrVerify("token-" + i, verifier);
+        }
+
+        // then
+        assertTrue(cache.size() <= 10);
+        assertTrue(meterRegistry.counter("jwt.cache.evictions").count() > 0);
+    }
+
+    private Function<String, Claims> verifier(Instant expiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Jwts.claims().setSubject("1").setExpiration(Date.from(expiration));
+        };
+    }
+
+    private void setClock(Instant now) {
+        ReflectionTestUtils.setField(cache, "clock", Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -15,7 +15,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -56,7 +58,7 @@ class AuthControllerTest {
         SigninRequest request = new SigninRequest("test@test.com", "Password123");
         SigninResponse expectedResponse = new SigninResponse("token456");
 
-        given(authService.signin(any(SigninRequest.class))).willReturn(expectedResponse);
+        given(authService.signin(any(SigninRequest.class), eq("127.0.0.1"))).willReturn(expectedResponse);
 
         // when & then
         mockMvc.perform(post("/auth/signin")
@@ -65,4 +67,14 @@ class AuthControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.bearerToken").value("token456"));
     }
+
+    @Test
+    void 로그아웃이_정상적으로_처리된다() throws Exception {
+        // when & then
+        mockMvc.perform(post("/auth/logout")
+                .header("Authorization", "Bearer token789"))
+            .andExpect(status().isOk());
+
+        verify(authService).logout("Bearer token789");
+    }
 }
@@ -1,28 +1,40 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.RegisteredEmailFilter;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.config.VerifiedToken;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -33,6 +45,12 @@ class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    @Mock
+    private SigninThrottle signinThrottle;
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
     @InjectMocks
     private AuthService authService;
 
@@ -40,6 +58,7 @@ class AuthServiceTest {
     void 회원가입_시_이미_존재하는_이메일이면_예외가_발생한다() {
         // given
         SignupRequest request = new SignupRequest("test@test.com", "password123", "USER");
+        given(registeredEmailFilter.mightExist("test@test.com")).willReturn(true);
         given(userRepository.existsByEmail(anyString())).willReturn(true);
 
         // when & then
@@ -56,10 +75,11 @@ class AuthServiceTest {
         User user = new User("test@test.com", "encodedPassword", UserRole.USER);
         String token = "Bearer testToken";
 
+        given(registeredEmailFilter.mightExist("test@test.com")).willReturn(true);
         given(userRepository.existsByEmail(anyString())).willReturn(false);
         given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
         given(userRepository.save(any(User.class))).willReturn(user);
-        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class))).willReturn(token);
+        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class), anyLong())).willReturn(token);
 
         // when
         SignupResponse response = authService.signup(request);
@@ -67,6 +87,43 @@ class AuthServiceTest {
         // then
         assertNotNull(response);
         assertEquals(token, response.getBearerToken());
+        verify(registeredEmailFilter).add("test@test.com");
+    }
+
+    @Test
+    void 가입된_적_없는_이메일이_확실하면_중복_확인_쿼리를_생략한다() {
+        // given
+        SignupRequest request = new SignupRequest("new@test.com", "password123", "USER");
+        User user = new User("new@test.com", "encodedPassword", UserRole.USER);
+
+        given(registeredEmailFilter.mightExist("new@test.com")).willReturn(false);
+        given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+        given(userRepository.save(any(User.class))).willReturn(user);
+        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class), anyLong())).willReturn("Bearer testToken");
+
+        // when
+        authService.signup(request);
+
+        // then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(registeredEmailFilter).add("new@test.com");
+    }
+
+    @Test
+    void 필터를_지나_저장하다_유니크_제약에_걸리면_중복_이메일로_처리한다() {
+        // given
+        SignupRequest request = new SignupRequest("test@test.com", "password123", "USER");
+
+        given(registeredEmailFilter.mightExist("test@test.com")).willReturn(false);
+        given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate email"));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            authService.signup(request)
+        );
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(registeredEmailFilter, never()).add(anyString());
     }
 
     @Test
@@ -77,7 +134,7 @@ class AuthServiceTest {
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-            authService.signin(request)
+            authService.signin(request, "127.0.0.1")
         );
         assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
     }
@@ -93,9 +150,22 @@ class AuthServiceTest {
 
         // when & then
         AuthException exception = assertThrows(AuthException.class, () ->
-            authService.signin(request)
+            authService.signin(request, "127.0.0.1")
         );
         assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        verify(signinThrottle, never()).onSuccess(anyString(), anyString());
+    }
+
+    @Test
+    void 로그인_시도가_제한을_넘으면_비밀번호를_검증하지_않고_거절한다() {
+        // given
+        SigninRequest request = new SigninRequest("test@test.com", "wrongPassword");
+        willThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."))
+                .given(signinThrottle).acquire("test@test.com", "127.0.0.1");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> authService.signin(request, "127.0.0.1"));
+        verifyNoInteractions(userRepository, passwordEncoder);
     }
 
     @Test
@@ -107,13 +177,78 @@ class AuthServiceTest {
 
         given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
-        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class))).willReturn(token);
+        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class), anyLong())).willReturn(token);
 
         // when
-        SigninResponse response = authService.signin(request);
+        SigninResponse response = authService.signin(request, "127.0.0.1");
 
         // then
         assertNotNull(response);
         assertEquals(token, response.getBearerToken());
+        verify(signinThrottle).onSuccess("test@test.com", "127.0.0.1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 로그인에_성공하면_다른_cost의_해시를_백그라운드에서_바꿔_저장한다() {
+        // given
+        SigninRequest request = new SigninRequest("test@test.com", "password123");
+        User user = new User("test@test.com", "encodedPassword", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(jwtUtil.createToken(any(), anyString(), any(UserRole.class), anyLong())).willReturn("Bearer testToken");
+
+        // when
+        authService.signin(request, "127.0.0.1");
+
+        // then
+        ArgumentCaptor<Consumer<String>> onRehashed = ArgumentCaptor.forClass(Consumer.class);
+        verify(passwordEncoder).rehashInBackground(eq("password123"), eq("encodedPassword"), onRehashed.capture());
+        onRehashed.getValue().accept("rehashedPassword");
+        verify(userRepository).updatePasswordIfUnchanged(1L, "encodedPassword", "rehashedPassword");
+    }
+
+    @Test
+    void 로그아웃하면_해당_토큰을_폐기한다() {
+        // given
+        given(jwtUtil.substringToken("Bearer token")).willReturn("token");
+        given(jwtUtil.verifyToken("token"))
+                .willReturn(new VerifiedToken(1L, "test@test.com", UserRole.USER, "jti-1", 0L, 0L, 1_000L));
+
+        // when
+        authService.logout("Bearer token");
+
+        // then
+        verify(tokenRevocationList).revokeToken("jti-1", 1_000L);
+        verify(tokenRevocationList, never()).revokeAllIssuedBefore(anyLong());
+    }
+
+    @Test
+    void jti가_없는_토큰으로_로그아웃하면_사용자의_기존_토큰을_모두_폐기한다() {
+        // given
+        given(jwtUtil.substringToken("Bearer token")).willReturn("token");
+        given(jwtUtil.verifyToken("token"))
+                .willReturn(new VerifiedToken(1L, "test@test.com", UserRole.USER, null, 0L, 0L, 1_000L));
+
+        // when
+        authService.logout("Bearer token");
+
+        // then
+        verify(tokenRevocationList).revokeAllIssuedBefore(1L);
+    }
+
+    @Test
+    void 이미_만료된_토큰으로_로그아웃하면_아무것도_하지_않는다() {
+        // given
+        given(jwtUtil.substringToken("Bearer token")).willReturn("token");
+        given(jwtUtil.verifyToken("token")).willThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+        // when
+        authService.logout("Bearer token");
+
+        // then
+        verifyNoInteractions(tokenRevocationList);
     }
 }
@@ -0,0 +1,174 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigninThrottleTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+    private static final String IP = "10.0.0.1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SigninThrottle signinThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        signinThrottle = new SigninThrottle(meterRegistry);
+        signinThrottle.init();
+        setClock(NOW);
+    }
+
+    @Test
+    void 계정별_capacity를_넘는_시도는_거절한다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            signinThrottle.acquire("test@test.com", IP);
+        }
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> signinThrottle.acquire("TEST@test.com ", "10.0.0.2"));
+        assertDoesNotThrow(() -> signinThrottle.acquire("other@test.com", IP));
+        assertEquals(1, meterRegistry.counter("auth.signin.throttled", "key", "account").count());
+    }
+
+    @Test
+    void refill_interval마다_한_번씩_다시_시도할_수_있다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            signinThrottle.acquire("test@test.com", IP);
+        }
+
+        // when
+        setClock(NOW.plusSeconds(12));
+
+        // then
+        assertDoesNotThrow(() -> signinThrottle.acquire("test@test.com", IP));
+        assertThrows(TooManyRequestsException.class, () -> signinThrottle.acquire("test@test.com", IP));
+    }
+
+    @Test
+    void 로그인에_성공하면_계정과_IP_시도를_돌려받는다() {
+        // when: IP capacity(20) 보다 많이 성공해도 막히지 않는다
+        for (int i = 0; i < 30; i++) {
+            signinThrottle.acquire("user" + i + "@test.com", IP);
+            signinThrottle.onSuccess("user" + i + "@test.com", IP);
+        }
+        for (int i = 0; i < 10; i++) {
+            signinThrottle.acquire("test@test.com", IP);
+            signinThrottle.onSuccess("test@test.com", IP);
+        }
+
+        // then
+        assertDoesNotThrow(() -> signinThrottle.acquire("test@test.com", IP));
+    }
+
+    @Test
+    void 여러_계정으로_시도해도_IP별_capacity를_넘으면_거절한다() {
+        // given
+        int allowed = 0;
+        int rejected = 0;
+
+        // when: 크리덴셜 스터핑 - 한 IP 에서 매번 다른 이메일로 1000번 시도
+        for (int i = 0; i < 1_000; i++) {
+            try {
+                signinThrottle.acquire("user" + i + "@test.com", IP);
+                allowed++;
+            } catch (TooManyRequestsException e) {
+                rejected++;
+            }
+        }
+
+        // then: bcrypt 까지 가는 시도는 IP capacity 만큼뿐이다
+        assertEquals(20, allowed);
+        assertEquals(980, rejected);
+        assertEquals(980, meterRegistry.counter("auth.signin.throttled", "key", "ip").count());
+    }
+
+    @Test
+    void 동시에_시도해도_capacity보다_많이_통과시키지_않는다() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger allowed = new AtomicInteger();
+        List<Callable<Void>> attempts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            attempts.add(() -> {
+                try {
+                    signinThrottle.acquire("test@test.com", null);
+                    allowed.incrementAndGet();
+                } catch (TooManyRequestsException ignored) {
+                }
+                return null;
+            });
+        }
+
+        // when
+        try {
+            for (Future<Void> future : executor.invokeAll(attempts)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals(5, allowed.get());
+    }
+
+    @Test
+    void 다시_가득_찬_버킷은_sweep에서_지운다() {
+        // given
+        signinThrottle.acquire("test@test.com", IP);
+        for (int i = 0; i < 5; i++) {
+            signinThrottle.acquire("other@test.com", "10.0.0.2");
+        }
+        assertEquals(4, signinThrottle.size());
+
+        // when
+        setClock(NOW.plusSeconds(12));
+        signinThrottle.sweep();
+
+        // then: 12초 뒤에는 한 번만 시도한 계정과 두 IP 가 가득 찼다
+        assertEquals(1, signinThrottle.size());
+        assertThrows(TooManyRequestsException.class, () -> {
+            signinThrottle.acquire("other@test.com", "10.0.0.3");
+            signinThrottle.acquire("other@test.com", "10.0.0.3");
+        });
+    }
+
+    @Test
+    void max_entries에_닿으면_가득_찬_버킷을_지우고_자리가_없으면_새_키를_거절한다() {
+        // given
+        ReflectionTestUtils.setField(signinThrottle, "maxEntries", 1);
+        signinThrottle.acquire("test@test.com", null);
+
+        // when & then: 최근에 시도한 키만 있으면 새 키는 통과시키지 않는다
+        assertThrows(TooManyRequestsException.class, () -> signinThrottle.acquire("other@test.com", null));
+        assertEquals(1, meterRegistry.counter("auth.signin.throttle.overflow").count());
+
+        // when & then: 가득 찬 버킷은 지우고 그 자리에 새 키를 센다
+        setClock(NOW.plusSeconds(12));
+        assertDoesNotThrow(() -> signinThrottle.acquire("other@test.com", null));
+        assertEquals(1, signinThrottle.size());
+    }
+
+    private void setClock(Instant instant) {
+        ReflectionTestUtils.setField(signinThrottle, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
@@ -1,7 +1,10 @@
 package org.example.expert.domain.comment.controller;
 
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.config.RoutePolicy;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -29,7 +32,9 @@ class CommentAdminControllerTest {
         long commentId = 1L;
 
         // when & then
-        mockMvc.perform(delete("/admin/comments/{commentId}", commentId))
+        mockMvc.perform(delete("/admin/comments/{commentId}", commentId)
+                .requestAttr(RoutePolicy.REQUEST_ATTRIBUTE, RoutePolicy.AUDITED)
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "admin@test.com", UserRole.ADMIN)))
             .andExpect(status().isOk());
     }
 }
@@ -7,7 +7,9 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -61,9 +63,7 @@ class CommentControllerTest {
         mockMvc.perform(post("/todos/{todoId}/comments", todoId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request))
-                .requestAttr("userId", 1L)
-                .requestAttr("email", "test@test.com")
-                .requestAttr("userRole", "USER"))
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.USER)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.contents").value("Test comment"));
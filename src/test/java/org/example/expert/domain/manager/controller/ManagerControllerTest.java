@@ -5,11 +5,13 @@ import io.jsonwebtoken.Claims;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -65,9 +67,7 @@ class ManagerControllerTest {
         mockMvc.perform(post("/todos/{todoId}/managers", todoId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request))
-                .requestAttr("userId", 1L)
-                .requestAttr("email", "test@test.com")
-                .requestAttr("userRole", "USER"))
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.USER)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.user.id").value(2L));
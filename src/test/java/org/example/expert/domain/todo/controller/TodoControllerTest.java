@@ -3,11 +3,15 @@ package org.example.expert.domain.todo.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -16,8 +20,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -63,9 +69,7 @@ class TodoControllerTest {
         mockMvc.perform(post("/todos")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request))
-                .requestAttr("userId", 1L)
-                .requestAttr("email", "test@test.com")
-                .requestAttr("userRole", "USER"))
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.USER)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1L))
             .andExpect(jsonPath("$.title").value("Title"))
@@ -73,6 +77,58 @@ class TodoControllerTest {
             .andExpect(jsonPath("$.weather").value("Sunny"));
     }
 
+    @Test
+    void Todo_비동기_생성은_날씨_조회가_끝난_뒤_응답한다() throws Exception {
+        // given
+        TodoSaveRequest request = new TodoSaveRequest("Title", "Contents");
+        TodoSaveResponse expectedResponse = new TodoSaveResponse(
+            1L,
+            "Title",
+            "Contents",
+            "Sunny",
+            new UserResponse(1L, "test@test.com")
+        );
+
+        given(todoService.saveTodoAsync(any(), any(TodoSaveRequest.class)))
+            .willReturn(CompletableFuture.completedFuture(expectedResponse));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/todos/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.USER)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1L))
+            .andExpect(jsonPath("$.weather").value("Sunny"));
+    }
+
+    @Test
+    void Todo_대량_생성이_정상적으로_처리된다() throws Exception {
+        // given
+        TodoBulkSaveRequest request = new TodoBulkSaveRequest(List.of(
+            new TodoSaveRequest("Title1", "Contents1"),
+            new TodoSaveRequest("Title2", "Contents2")
+        ));
+
+        given(todoService.saveTodos(any(), any(TodoBulkSaveRequest.class)))
+            .willReturn(new TodoBulkSaveResponse(List.of(1L, 2L), "Sunny"));
+
+        // when & then
+        mockMvc.perform(post("/todos/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.USER)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.ids[0]").value(1L))
+            .andExpect(jsonPath("$.ids[1]").value(2L))
+            .andExpect(jsonPath("$.weather").value("Sunny"));
+    }
+
     @Test
     void Todo_목록_조회가_정상적으로_처리된다() throws Exception {
         // given
@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TodoBulkRepository.class)
+class TodoBulkRepositoryTest {
+
+    @Autowired
+    private TodoBulkRepository todoBulkRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 일정과_작성자_담당자를_배치로_저장하고_id를_요청_순서대로_반환한다() {
+        // given
+        ReflectionTestUtils.setField(todoBulkRepository, "batchSize", 2);
+        User user = new User("test@test.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        entityManager.flush();
+
+        List<TodoSaveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(new TodoSaveRequest("Title" + i, "Contents" + i));
+        }
+        LocalDateTime now = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+        // when
+        List<Long> ids = todoBulkRepository.insertTodos(requests, "Sunny", false, user.getId(), now);
+        todoBulkRepository.insertOwnerManagers(ids, user.getId());
+        entityManager.clear();
+
+        // then
+        assertEquals(5, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Todo todo = entityManager.find(Todo.class, ids.get(i));
+            assertEquals("Title" + i, todo.getTitle());
+            assertEquals("Sunny", todo.getWeather());
+            assertFalse(todo.isWeatherPending());
+            assertEquals(now, todo.getCreatedAt());
+            assertEquals(user.getId(), todo.getUser().getId());
+        }
+        List<Manager> managers = entityManager
+                .createQuery("SELECT m FROM Manager m WHERE m.todo.id IN :ids", Manager.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        assertEquals(5, managers.size());
+        assertTrue(managers.stream().allMatch(manager -> manager.getUser().getId().equals(user.getId())));
+    }
+}
@@ -1,33 +1,53 @@
 package org.example.expert.domain.todo.service;
 
+import org.example.expert.client.ReactiveWeatherClient;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.client.exception.WeatherUnavailableException;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -35,7 +55,15 @@ class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
+    private TodoBulkRepository todoBulkRepository;
+    @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private ReactiveWeatherClient reactiveWeatherClient;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private TodoService todoService;
 
@@ -64,6 +92,144 @@ class TodoServiceTest {
         assertEquals(weather, response.getWeather());
     }
 
+    @Test
+    void 비동기_보강_모드에서는_날씨_조회_없이_pending_상태로_저장한다() {
+        // given
+        ReflectionTestUtils.setField(todoService, "asyncWeatherEnrichment", true);
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("Title", "Contents");
+
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            ReflectionTestUtils.setField(todo, "id", 1L);
+            return todo;
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertEquals(1L, response.getId());
+        assertNull(response.getWeather());
+        verify(weatherClient, never()).getTodayWeather();
+        verify(todoRepository).save(argThat(todo -> todo.isWeatherPending() && todo.getWeather() == null));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof TodoCreatedEvent created && created.todoId().equals(1L)));
+    }
+
+    @Test
+    void 날씨_서킷이_열려_있으면_대체값으로_저장하고_백필_대상으로_표시한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("Title", "Contents");
+
+        given(weatherClient.getTodayWeather()).willThrow(new WeatherUnavailableException("날씨 API 호출이 일시적으로 차단되었습니다."));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertEquals("Unknown", response.getWeather());
+        verify(todoRepository).save(argThat(todo -> todo.isWeatherPending() && "Unknown".equals(todo.getWeather())));
+        verify(eventPublisher).publishEvent(any(TodoCreatedEvent.class));
+    }
+
+    @Test
+    void 비동기_저장은_논블로킹으로_조회한_날씨로_트랜잭션_안에서_저장한다() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("Title", "Contents");
+
+        given(reactiveWeatherClient.getTodayWeather()).willReturn(Mono.just("Sunny"));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse response = todoService.saveTodoAsync(authUser, request).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("Sunny", response.getWeather());
+        verify(weatherClient, never()).getTodayWeather();
+        verify(todoRepository).save(argThat(todo -> !todo.isWeatherPending() && "Sunny".equals(todo.getWeather())));
+    }
+
+    @Test
+    void 비동기_저장_중_날씨_서킷이_열려_있으면_대체값으로_저장한다() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("Title", "Contents");
+
+        given(reactiveWeatherClient.getTodayWeather())
+                .willReturn(Mono.error(new WeatherUnavailableException("날씨 API 호출이 일시적으로 차단되었습니다.")));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse response = todoService.saveTodoAsync(authUser, request).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("Unknown", response.getWeather());
+        verify(todoRepository).save(argThat(todo -> todo.isWeatherPending() && "Unknown".equals(todo.getWeather())));
+    }
+
+    @Test
+    void 할일_대량_저장은_날씨를_한_번만_조회하고_배치로_저장한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("Title1", "Contents1"),
+                new TodoSaveRequest("Title2", "Contents2"),
+                new TodoSaveRequest("Title3", "Contents3")
+        );
+
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(todoBulkRepository.insertTodos(eq(requests), eq("Sunny"), eq(false), eq(1L), any(LocalDateTime.class)))
+                .willReturn(List.of(10L, 11L, 12L));
+
+        // when
+        TodoBulkSaveResponse response = todoService.saveTodos(authUser, new TodoBulkSaveRequest(requests));
+
+        // then
+        assertEquals(List.of(10L, 11L, 12L), response.getIds());
+        assertEquals("Sunny", response.getWeather());
+        verify(weatherClient, times(1)).getTodayWeather();
+        // 날씨 조회는 트랜잭션을 열기 전에 끝난다
+        InOrder inOrder = inOrder(weatherClient, transactionTemplate);
+        inOrder.verify(weatherClient).getTodayWeather();
+        inOrder.verify(transactionTemplate).execute(any());
+        verify(todoBulkRepository).insertOwnerManagers(List.of(10L, 11L, 12L), 1L);
+        verify(todoRepository, never()).save(any());
+    }
+
+    @Test
+    void 비동기_보강_모드의_대량_저장은_pending으로_저장하고_일정마다_이벤트를_발행한다() {
+        // given
+        ReflectionTestUtils.setField(todoService, "asyncWeatherEnrichment", true);
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("Title1", "Contents1"),
+                new TodoSaveRequest("Title2", "Contents2")
+        );
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(todoBulkRepository.insertTodos(eq(requests), isNull(), eq(true), eq(1L), any(LocalDateTime.class)))
+                .willReturn(List.of(10L, 11L));
+
+        // when
+        TodoBulkSaveResponse response = todoService.saveTodos(authUser, new TodoBulkSaveRequest(requests));
+
+        // then
+        assertEquals(List.of(10L, 11L), response.getIds());
+        verify(weatherClient, never()).getTodayWeather();
+        verify(eventPublisher, times(2)).publishEvent(any(TodoCreatedEvent.class));
+    }
+
     @Test
     void 할일_목록_조회가_정상적으로_처리된다() {
         // given
@@ -0,0 +1,199 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher.PendingWeather;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoWeatherEnricher, "queue", new ArrayBlockingQueue<PendingWeather>(2));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void 비동기_모드가_아니면_작업_스레드를_만들지_않는다() {
+        // given
+        ReflectionTestUtils.setField(todoWeatherEnricher, "queue", null);
+
+        // when
+        todoWeatherEnricher.start();
+        todoWeatherEnricher.onTodoCreated(new TodoCreatedEvent(1L, LocalDate.of(2024, 3, 10)));
+
+        // then
+        assertNull(ReflectionTestUtils.getField(todoWeatherEnricher, "worker"));
+        assertNull(ReflectionTestUtils.getField(todoWeatherEnricher, "queue"));
+    }
+
+    @Test
+    void 같은_윈도우의_일정은_날짜별로_한_번씩_조회하고_갱신한다() {
+        // given
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        LocalDate yesterday = today.minusDays(1);
+        given(weatherClient.getWeather(today)).willReturn("Sunny");
+        given(weatherClient.getWeather(yesterday)).willReturn("Rainy");
+
+        // when
+        todoWeatherEnricher.enrich(List.of(
+                new PendingWeather(1L, today),
+                new PendingWeather(2L, yesterday),
+                new PendingWeather(3L, today)
+        ));
+
+        // then
+        verify(weatherClient, times(1)).getWeather(today);
+        verify(todoRepository).fillPendingWeather(List.of(1L, 3L), "Sunny");
+        verify(todoRepository).fillPendingWeather(List.of(2L), "Rainy");
+    }
+
+    @Test
+    void 날씨_조회에_실패하면_pending_상태로_남긴다() {
+        // given
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        given(weatherClient.getWeather(today)).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        todoWeatherEnricher.enrich(List.of(new PendingWeather(1L, today)));
+
+        // then
+        verify(todoRepository, never()).fillPendingWeather(any(), anyString());
+    }
+
+    @Test
+    void 큐에_쌓인_이벤트를_한_배치로_모은다() throws InterruptedException {
+        // given
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        todoWeatherEnricher.onTodoCreated(new TodoCreatedEvent(1L, today));
+        todoWeatherEnricher.onTodoCreated(new TodoCreatedEvent(2L, today));
+        // 큐 용량(2)을 넘는 이벤트는 버려지고 sweep 대상으로 남는다
+        todoWeatherEnricher.onTodoCreated(new TodoCreatedEvent(3L, today));
+
+        // when
+        List<PendingWeather> batch = todoWeatherEnricher.drainBatch();
+
+        // then
+        assertEquals(List.of(new PendingWeather(1L, today), new PendingWeather(2L, today)), batch);
+    }
+
+    @Test
+    void sweep_은_오래된_pending_일정을_다시_채운다() {
+        // given
+        User user = new User("test@test.com", "password", UserRole.USER);
+        Todo todo = Todo.withPendingWeather("Title", "Contents", null, user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.of(2024, 3, 9, 23, 59));
+
+        given(todoRepository.findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class))).willReturn(List.of(todo));
+        given(weatherClient.getWeather(LocalDate.of(2024, 3, 9))).willReturn("Rainy");
+
+        // when
+        todoWeatherEnricher.sweepPending();
+
+        // then
+        verify(todoRepository).fillPendingWeather(eq(List.of(1L)), eq("Rainy"));
+    }
+
+    @Test
+    void sweep_은_페이지가_가득_차면_다음_sweep_에서_마지막_id_다음부터_읽는다() {
+        // given
+        ReflectionTestUtils.setField(todoWeatherEnricher, "batchSize", 2);
+        User user = new User("test@test.com", "password", UserRole.USER);
+        Todo first = pendingTodo(1L, user);
+        Todo second = pendingTodo(2L, user);
+        Todo third = pendingTodo(3L, user);
+        given(todoRepository.findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(todoRepository.findPendingWeather(any(LocalDateTime.class), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(third));
+        // 계속 실패하는 일정이 첫 페이지에 남아도 뒤의 일정까지 차례가 온다
+        given(weatherClient.getWeather(LocalDate.of(2024, 3, 9))).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        todoWeatherEnricher.sweepPending();
+        todoWeatherEnricher.sweepPending();
+        todoWeatherEnricher.sweepPending();
+
+        // then
+        verify(todoRepository, times(2)).findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class));
+        verify(todoRepository).findPendingWeather(any(LocalDateTime.class), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void 동기_모드에서_지난_sweep_이후_pending_일정이_없으면_조회하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(todoWeatherEnricher, "queue", null);
+        given(todoRepository.findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class))).willReturn(List.of());
+        todoWeatherEnricher.sweepPending();
+
+        // when
+        todoWeatherEnricher.sweepPending();
+
+        // then
+        verify(todoRepository, times(1)).findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void 동기_모드에서_대체값으로_저장된_일정이_있으면_다시_sweep_한다() {
+        // given
+        ReflectionTestUtils.setField(todoWeatherEnricher, "queue", null);
+        given(todoRepository.findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class))).willReturn(List.of());
+        todoWeatherEnricher.sweepPending();
+        todoWeatherEnricher.onTodoCreated(new TodoCreatedEvent(1L, LocalDate.of(2024, 3, 10)));
+
+        // when
+        todoWeatherEnricher.sweepPending();
+
+        // then
+        verify(todoRepository, times(2)).findPendingWeather(any(LocalDateTime.class), eq(0L), any(Pageable.class));
+    }
+
+    private static Todo pendingTodo(Long id, User user) {
+        Todo todo = Todo.withPendingWeather("Title", "Contents", null, user);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.of(2024, 3, 9, 23, 59));
+        return todo;
+    }
+}
@@ -2,7 +2,10 @@ package org.example.expert.domain.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.config.RoutePolicy;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserAdminService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +40,8 @@ class UserAdminControllerTest {
 
         // when & then
         mockMvc.perform(patch("/admin/users/{userId}", userId)
+                .requestAttr(RoutePolicy.REQUEST_ATTRIBUTE, RoutePolicy.AUDITED)
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "admin@test.com", UserRole.ADMIN))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isOk());
@@ -3,8 +3,10 @@ package org.example.expert.domain.user.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,9 +62,7 @@ class UserControllerTest {
         mockMvc.perform(put("/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request))
-                .requestAttr("userId", 1L)
-                .requestAttr("email", "test@test.com")
-                .requestAttr("userRole", "USER"))
+                .requestAttr(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.USER)))
             .andExpect(status().isOk());
     }
 }
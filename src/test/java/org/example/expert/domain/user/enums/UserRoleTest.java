@@ -0,0 +1,30 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRoleTest {
+
+    @Test
+    void 이름으로_UserRole을_찾는다() {
+        // when & then
+        assertEquals(UserRole.ADMIN, UserRole.of("ADMIN"));
+        assertEquals(UserRole.USER, UserRole.of("USER"));
+    }
+
+    @Test
+    void 대소문자가_달라도_UserRole을_찾는다() {
+        // when & then
+        assertEquals(UserRole.ADMIN, UserRole.of("admin"));
+        assertEquals(UserRole.USER, UserRole.of("User"));
+    }
+
+    @Test
+    void 없는_값이면_InvalidRequestException이_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> UserRole.of("MANAGER"));
+        assertThrows(InvalidRequestException.class, () -> UserRole.of(null));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpochTableTest {
+
+    @Test
+    void 없는_사용자는_0을_반환한다() {
+        // given
+        EpochTable table = new EpochTable();
+
+        // when & then
+        assertEquals(0, table.get(1L));
+    }
+
+    @Test
+    void epoch는_더_큰_값으로만_바뀐다() {
+        // given
+        EpochTable table = new EpochTable();
+
+        // when
+        table.raise(1L, 3L);
+        table.raise(1L, 2L);
+
+        // then
+        assertEquals(3L, table.get(1L));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void 크기를_늘려도_모든_값을_유지한다() {
+        // given
+        EpochTable table = new EpochTable();
+
+        // when
+        for (long userId = 1; userId <= 10_000; userId++) {
+            table.raise(userId, userId + 1);
+        }
+
+        // then
+        assertEquals(10_000, table.size());
+        for (long userId = 1; userId <= 10_000; userId++) {
+            assertEquals(userId + 1, table.get(userId));
+        }
+        assertEquals(0, table.get(10_001L));
+    }
+
+    @Test
+    void 쓰는_중에도_읽기는_이미_넣은_값을_본다() throws InterruptedException {
+        // given
+        EpochTable table = new EpochTable();
+        table.raise(7L, 5L);
+        AtomicBoolean wrong = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        CountDownLatch finished = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            readers.execute(() -> {
+                while (!done.get()) {
+                    if (table.get(7L) != 5L) {
+                        wrong.set(true);
+                    }
+                }
+                finished.countDown();
+            });
+        }
+
+        // when
+        for (long userId = 100; userId < 50_000; userId++) {
+            table.raise(userId, 1L);
+        }
+        done.set(true);
+
+        // then
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        readers.shutdown();
+        assertFalse(wrong.get());
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.UserSecurityEpoch;
+import org.example.expert.domain.user.event.UserSecurityEpochChangedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserSecurityEpochCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private UserSecurityEpochCache userSecurityEpochCache;
+
+    @Test
+    void 시작할_때_epoch가_있는_사용자를_나눠서_읽는다() {
+        // given
+        ReflectionTestUtils.setField(userSecurityEpochCache, "warmUpBatchSize", 2);
+        given(userRepository.findSecurityEpochs(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new UserSecurityEpoch(1L, 2L), new UserSecurityEpoch(3L, 1L)));
+        given(userRepository.findSecurityEpochs(eq(3L), any(Pageable.class)))
+                .willReturn(List.of(new UserSecurityEpoch(5L, 4L)));
+
+        // when
+        userSecurityEpochCache.warmUp();
+
+        // then
+        assertEquals(2L, userSecurityEpochCache.currentEpoch(1L));
+        assertEquals(1L, userSecurityEpochCache.currentEpoch(3L));
+        assertEquals(4L, userSecurityEpochCache.currentEpoch(5L));
+        assertEquals(0L, userSecurityEpochCache.currentEpoch(2L));
+    }
+
+    @Test
+    void 커밋된_변경_이벤트를_바로_반영한다() {
+        // when
+        userSecurityEpochCache.onEpochChanged(new UserSecurityEpochChangedEvent(1L, 3L));
+
+        // then
+        assertEquals(3L, userSecurityEpochCache.currentEpoch(1L));
+    }
+
+    @Test
+    void 다른_인스턴스에서_바뀐_epoch를_주기적으로_반영한다() {
+        // given
+        given(userRepository.findSecurityEpochsModifiedSince(any(LocalDateTime.class)))
+                .willReturn(List.of(new UserSecurityEpoch(1L, 2L)));
+
+        // when
+        userSecurityEpochCache.refresh();
+
+        // then
+        assertEquals(2L, userSecurityEpochCache.currentEpoch(1L));
+    }
+}
@@ -6,20 +6,29 @@ import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserSecurityEpochChangedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -28,6 +37,10 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private UserService userService;
 
@@ -160,8 +173,43 @@ class UserServiceTest {
         given(passwordEncoder.matches("NewPassword1", user.getPassword())).willReturn(false);
         given(passwordEncoder.matches("OldPassword1", user.getPassword())).willReturn(true);
         given(passwordEncoder.encode("NewPassword1")).willReturn("encodedNewPassword");
+        givenTransaction();
 
         // when & then
         assertDoesNotThrow(() -> userService.changePassword(userId, request));
+        assertEquals("encodedNewPassword", user.getPassword());
+        verify(eventPublisher).publishEvent(new UserSecurityEpochChangedEvent(userId, 1L));
+        // 해시는 트랜잭션을 열기 전에 끝난다
+        InOrder order = inOrder(passwordEncoder, transactionTemplate);
+        order.verify(passwordEncoder).encode("NewPassword1");
+        order.verify(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void 비밀번호_변경_중_다른_요청이_비밀번호를_바꿨으면_저장하지_않는다() {
+        // given
+        long userId = 1L;
+        User user = new User("test@test.com", "encodedOldPassword", UserRole.USER);
+        User changed = new User("test@test.com", "encodedOtherPassword", UserRole.USER);
+        UserChangePasswordRequest request = new UserChangePasswordRequest("OldPassword1", "NewPassword1");
+
+        given(userRepository.findById(anyLong())).willReturn(Optional.of(user)).willReturn(Optional.of(changed));
+        given(passwordEncoder.matches("NewPassword1", user.getPassword())).willReturn(false);
+        given(passwordEncoder.matches("OldPassword1", user.getPassword())).willReturn(true);
+        given(passwordEncoder.encode("NewPassword1")).willReturn("encodedNewPassword");
+        givenTransaction();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            userService.changePassword(userId, request)
+        );
+        assertEquals("비밀번호가 변경되었습니다. 다시 시도해 주세요.", exception.getMessage());
+        assertEquals("encodedOtherPassword", changed.getPassword());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private void givenTransaction() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 }